@@ -0,0 +1,42 @@
+package ru.mssecondteam.reviewservice.benchmark;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.ResultSet;
+import java.util.List;
+import java.util.Map;
+
+final class InMemoryResultSet implements InvocationHandler {
+
+    private final List<Map<String, Object>> rows;
+
+    private int row = -1;
+
+    private InMemoryResultSet(List<Map<String, Object>> rows) {
+        this.rows = rows;
+    }
+
+    static ResultSet of(List<Map<String, Object>> rows) {
+        return (ResultSet) Proxy.newProxyInstance(ResultSet.class.getClassLoader(), new Class<?>[]{ResultSet.class},
+                new InMemoryResultSet(rows));
+    }
+
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) {
+        return switch (method.getName()) {
+            case "next" -> ++row < rows.size();
+            case "getRow" -> row + 1;
+            case "getLong" -> ((Number) value(args[0])).longValue();
+            case "getInt" -> ((Number) value(args[0])).intValue();
+            case "getString", "getTimestamp" -> value(args[0]);
+            case "wasNull" -> false;
+            case "close" -> null;
+            default -> throw new UnsupportedOperationException(method.getName());
+        };
+    }
+
+    private Object value(Object column) {
+        return rows.get(row).get((String) column);
+    }
+}
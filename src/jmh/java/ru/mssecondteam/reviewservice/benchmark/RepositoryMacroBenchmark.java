@@ -0,0 +1,116 @@
+package ru.mssecondteam.reviewservice.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import ru.mssecondteam.reviewservice.ReviewServiceApplication;
+import ru.mssecondteam.reviewservice.dto.ReviewDto;
+import ru.mssecondteam.reviewservice.dto.TopReviewsDto;
+import ru.mssecondteam.reviewservice.dto.UserReviewStats;
+import ru.mssecondteam.reviewservice.repository.ReviewRepository;
+import ru.mssecondteam.reviewservice.repository.stats.StatsRepository;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class RepositoryMacroBenchmark {
+
+    private static final int REVIEWS_PER_EVENT = 1000;
+
+    private static final int REVIEWS_PER_AUTHOR = 100;
+
+    private static final int PAGE_SIZE = 20;
+
+    private static final int TOP_REVIEWS_LIMIT = 3;
+
+    @Param({"10000", "1000000", "10000000"})
+    private int rows;
+
+    private PostgreSQLContainer<?> postgres;
+
+    private ConfigurableApplicationContext context;
+
+    private StatsRepository statsRepository;
+
+    private ReviewRepository reviewRepository;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+        postgres.start();
+        context = startApplication();
+        statsRepository = context.getBean(StatsRepository.class);
+        reviewRepository = context.getBean(ReviewRepository.class);
+        seed(context.getBean(JdbcTemplate.class));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+        postgres.stop();
+    }
+
+    @Benchmark
+    public UserReviewStats getReviewStatsForUser() {
+        return statsRepository.getReviewStatsForUser(randomId(rows / REVIEWS_PER_AUTHOR), 6, 10);
+    }
+
+    @Benchmark
+    public TopReviewsDto getTopReviewsForEvent() {
+        return reviewRepository.getTopReviewsForEvent(randomId(rows / REVIEWS_PER_EVENT), TOP_REVIEWS_LIMIT);
+    }
+
+    @Benchmark
+    public List<ReviewDto> findReviewDtosByEventId() {
+        return reviewRepository.findReviewDtosByEventId(randomId(rows / REVIEWS_PER_EVENT), 0, PAGE_SIZE);
+    }
+
+    private ConfigurableApplicationContext startApplication() {
+        final Map<String, Object> properties = new HashMap<>();
+        properties.put("spring.main.web-application-type", "none");
+        properties.put("spring.datasource.url", postgres.getJdbcUrl());
+        properties.put("spring.datasource.username", postgres.getUsername());
+        properties.put("spring.datasource.password", postgres.getPassword());
+        properties.put("logging.level.root", "WARN");
+        return new SpringApplicationBuilder(ReviewServiceApplication.class)
+                .properties(properties)
+                .run();
+    }
+
+    private void seed(JdbcTemplate jdbcTemplate) {
+        jdbcTemplate.update("insert into reviews (title, content, author_id, username, mark, event_id, created_at, " +
+                        "updated_at, number_of_likes, number_of_dislikes) " +
+                        "select 'title ' || g, 'content ' || g, g % ? + 1, 'user' || g % ?, g % 10 + 1, g % ? + 1, " +
+                        "now() - g * interval '1 second', now() - g * interval '1 second', g % 17, g % 5 " +
+                        "from generate_series(1, ?) g",
+                rows / REVIEWS_PER_AUTHOR, rows / REVIEWS_PER_AUTHOR, rows / REVIEWS_PER_EVENT, rows);
+        jdbcTemplate.execute("analyze reviews");
+    }
+
+    private static long randomId(int bound) {
+        return ThreadLocalRandom.current().nextLong(bound) + 1;
+    }
+}
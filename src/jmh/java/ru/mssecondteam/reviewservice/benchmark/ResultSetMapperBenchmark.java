@@ -0,0 +1,78 @@
+package ru.mssecondteam.reviewservice.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.jdbc.core.RowMapperResultSetExtractor;
+import ru.mssecondteam.reviewservice.dto.LikeDto;
+import ru.mssecondteam.reviewservice.dto.ReviewDto;
+import ru.mssecondteam.reviewservice.repository.ReviewDtoRowMapper;
+import ru.mssecondteam.reviewservice.repository.like.LikesByReviewIdExtractor;
+
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ResultSetMapperBenchmark {
+
+    @Param({"10", "100", "1000"})
+    private int size;
+
+    private List<Map<String, Object>> reviewRows;
+
+    private List<Map<String, Object>> likeRows;
+
+    @Setup
+    public void setUp() {
+        final Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        reviewRows = LongStream.rangeClosed(1, size)
+                .mapToObj(id -> {
+                    final Map<String, Object> row = new HashMap<>();
+                    row.put("review_id", id);
+                    row.put("title", "title " + id);
+                    row.put("content", "content " + id);
+                    row.put("username", "username" + id);
+                    row.put("mark", (int) (id % 10) + 1);
+                    row.put("event_id", id % 20);
+                    row.put("created_at", now);
+                    row.put("updated_at", now);
+                    row.put("number_of_likes", id % 7);
+                    row.put("number_of_dislikes", id % 3);
+                    return row;
+                })
+                .toList();
+        likeRows = LongStream.rangeClosed(1, size)
+                .mapToObj(id -> Map.<String, Object>of("review_id", id, "likes", id % 7, "dislikes", id % 3))
+                .toList();
+    }
+
+    @Benchmark
+    public List<ReviewDto> mapReviewDtos() throws SQLException {
+        return new RowMapperResultSetExtractor<>(ReviewDtoRowMapper.INSTANCE, size)
+                .extractData(InMemoryResultSet.of(reviewRows));
+    }
+
+    @Benchmark
+    public Map<Long, LikeDto> extractLikesByReviewId() throws SQLException {
+        return new LikesByReviewIdExtractor(size).extractData(InMemoryResultSet.of(likeRows));
+    }
+}
@@ -0,0 +1,72 @@
+package ru.mssecondteam.reviewservice.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.test.util.ReflectionTestUtils;
+import ru.mssecondteam.reviewservice.config.JacksonConfig;
+import ru.mssecondteam.reviewservice.dto.ReviewDto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ReviewDtoSerializationBenchmark {
+
+    private static final String DATE_FORMAT = "dd.MM.yyyy HH:mm";
+
+    @Param({"10", "100", "1000"})
+    private int size;
+
+    private ObjectMapper objectMapper;
+
+    private List<ReviewDto> reviews;
+
+    @Setup
+    public void setUp() {
+        final JacksonConfig jacksonConfig = new JacksonConfig();
+        ReflectionTestUtils.setField(jacksonConfig, "dateTimeFormat", DATE_FORMAT);
+        final Jackson2ObjectMapperBuilder builder = new Jackson2ObjectMapperBuilder();
+        jacksonConfig.jackson2ObjectMapperBuilderCustomizer().customize(builder);
+        objectMapper = builder.build();
+
+        final LocalDateTime now = LocalDateTime.now();
+        reviews = LongStream.rangeClosed(1, size)
+                .mapToObj(id -> ReviewDto.builder()
+                        .id(id)
+                        .title("title " + id)
+                        .content("content " + id)
+                        .username("username" + id)
+                        .mark((int) (id % 10) + 1)
+                        .eventId(id % 20)
+                        .createdDateTime(now)
+                        .updatedDateTime(now)
+                        .numberOfLikes(id % 7)
+                        .numberOfDislikes(id % 3)
+                        .build())
+                .toList();
+    }
+
+    @Benchmark
+    public byte[] writeReviewDtoList() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(reviews);
+    }
+}
@@ -0,0 +1,77 @@
+package ru.mssecondteam.reviewservice.benchmark;
+
+import org.mapstruct.factory.Mappers;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import ru.mssecondteam.reviewservice.dto.LikeDto;
+import ru.mssecondteam.reviewservice.dto.ReviewDto;
+import ru.mssecondteam.reviewservice.mapper.ReviewMapper;
+import ru.mssecondteam.reviewservice.model.Review;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ReviewMapperBenchmark {
+
+    @Param({"10", "100", "1000"})
+    private int size;
+
+    private final ReviewMapper reviewMapper = Mappers.getMapper(ReviewMapper.class);
+
+    private List<Review> reviews;
+
+    private Map<Long, LikeDto> likes;
+
+    @Setup
+    public void setUp() {
+        final LocalDateTime now = LocalDateTime.now();
+        reviews = LongStream.rangeClosed(1, size)
+                .mapToObj(id -> Review.builder()
+                        .id(id)
+                        .title("title " + id)
+                        .content("content " + id)
+                        .authorId(id % 50)
+                        .username("username" + id)
+                        .mark((int) (id % 10) + 1)
+                        .eventId(id % 20)
+                        .createdDateTime(now)
+                        .updatedDateTime(now)
+                        .build())
+                .toList();
+        likes = new HashMap<>();
+        for (Review review : reviews) {
+            if (review.getId() % 2 == 0) {
+                likes.put(review.getId(), new LikeDto(review.getId(), review.getId() % 7, review.getId() % 3));
+            }
+        }
+    }
+
+    @Benchmark
+    public List<ReviewDto> toDtoListWithLikes() {
+        return reviewMapper.toDtoListWithLikes(reviews, likes);
+    }
+
+    @Benchmark
+    public List<Long> getReviewsIds() {
+        return ReviewMapper.getReviewsIds(reviews);
+    }
+}
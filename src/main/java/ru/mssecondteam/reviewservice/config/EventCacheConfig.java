@@ -0,0 +1,57 @@
+package ru.mssecondteam.reviewservice.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import ru.mssecondteam.reviewservice.dto.event.EventDto;
+
+import java.time.Duration;
+import java.util.Set;
+
+@Configuration
+public class EventCacheConfig {
+
+    @Value("${app.event-cache.maximum-size}")
+    private long maximumSize;
+
+    @Value("${app.event-cache.ttl}")
+    private Duration ttl;
+
+    @Value("${app.event-cache.not-found-ttl}")
+    private Duration notFoundTtl;
+
+    @Bean
+    public Cache<Long, EventDto> passedEventsCache(MeterRegistry meterRegistry) {
+        return monitor(meterRegistry, "passedEvents", Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build());
+    }
+
+    @Bean
+    public Cache<Long, Set<Long>> eventTeamMembersCache(MeterRegistry meterRegistry) {
+        return monitor(meterRegistry, "eventTeamMembers", Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build());
+    }
+
+    @Bean
+    public Cache<Long, Boolean> missingEventsCache(MeterRegistry meterRegistry) {
+        return monitor(meterRegistry, "missingEvents", Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(notFoundTtl)
+                .recordStats()
+                .build());
+    }
+
+    private <K, V> Cache<K, V> monitor(MeterRegistry meterRegistry, String cacheName, Cache<K, V> cache) {
+        return CaffeineCacheMetrics.monitor(meterRegistry, cache, cacheName);
+    }
+}
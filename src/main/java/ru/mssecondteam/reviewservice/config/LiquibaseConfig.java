@@ -0,0 +1,32 @@
+package ru.mssecondteam.reviewservice.config;
+
+import liquibase.integration.spring.SpringLiquibase;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import ru.mssecondteam.reviewservice.model.IdAllocation;
+
+import java.util.HashMap;
+import java.util.Map;
+
+@Configuration
+public class LiquibaseConfig {
+
+    @Bean
+    public static BeanPostProcessor idAllocationChangeLogParameters() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                if (bean instanceof SpringLiquibase liquibase) {
+                    final Map<String, String> parameters = liquibase.getChangeLogParameters() == null
+                            ? new HashMap<>()
+                            : new HashMap<>(liquibase.getChangeLogParameters());
+                    parameters.put("idAllocationSize", String.valueOf(IdAllocation.SIZE));
+                    parameters.put("id.increment", String.valueOf(IdAllocation.SIZE));
+                    liquibase.setChangeLogParameters(parameters);
+                }
+                return bean;
+            }
+        };
+    }
+}
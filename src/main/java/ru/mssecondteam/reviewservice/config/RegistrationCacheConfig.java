@@ -0,0 +1,37 @@
+package ru.mssecondteam.reviewservice.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.Set;
+
+@Configuration
+public class RegistrationCacheConfig {
+
+    @Value("${app.registration-cache.maximum-size}")
+    private long maximumSize;
+
+    @Value("${app.registration-cache.ttl}")
+    private Duration ttl;
+
+    @Value("${app.registration-cache.empty-ttl}")
+    private Duration emptyTtl;
+
+    @Bean
+    public Cache<Long, Set<String>> approvedUsernamesCache(MeterRegistry meterRegistry) {
+        final Cache<Long, Set<String>> cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(Expiry.creating((Long eventId, Set<String> usernames) ->
+                        usernames.isEmpty() ? emptyTtl : ttl))
+                .recordStats()
+                .build();
+        return CaffeineCacheMetrics.monitor(meterRegistry, cache, "approvedUsernames");
+    }
+}
@@ -0,0 +1,32 @@
+package ru.mssecondteam.reviewservice.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import ru.mssecondteam.reviewservice.service.cache.VersionedReview;
+
+import java.time.Duration;
+
+@Configuration
+public class ReviewCacheConfig {
+
+    @Value("${app.review-cache.maximum-size}")
+    private long maximumSize;
+
+    @Value("${app.review-cache.ttl}")
+    private Duration ttl;
+
+    @Bean
+    public Cache<Long, VersionedReview> reviewsCache(MeterRegistry meterRegistry) {
+        final Cache<Long, VersionedReview> cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        return CaffeineCacheMetrics.monitor(meterRegistry, cache, "reviews");
+    }
+}
@@ -0,0 +1,36 @@
+package ru.mssecondteam.reviewservice.controller;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.stereotype.Component;
+import ru.mssecondteam.reviewservice.service.stats.StatsService;
+
+import java.util.List;
+import java.util.Map;
+
+@Component
+@Endpoint(id = "eventreviewstats")
+@RequiredArgsConstructor
+@Slf4j
+public class EventReviewStatsEndpoint {
+
+    private final StatsService statsService;
+
+    @ReadOperation
+    public Map<String, Object> checkConsistency() {
+        log.info("Checking consistency of event review stats");
+        final List<Long> inconsistentEventIds = statsService.findInconsistentEventStats();
+        return Map.of(
+                "consistent", inconsistentEventIds.isEmpty(),
+                "inconsistentEventIds", inconsistentEventIds);
+    }
+
+    @WriteOperation
+    public Map<String, Object> rebuild() {
+        log.info("Rebuilding event review stats");
+        return Map.of("rebuiltEvents", statsService.rebuildEventStats());
+    }
+}
@@ -7,12 +7,17 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.validation.ConstraintViolation;
 import jakarta.validation.Valid;
+import jakarta.validation.Validator;
 import jakarta.validation.constraints.Positive;
 import jakarta.validation.constraints.PositiveOrZero;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PatchMapping;
@@ -24,22 +29,37 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.context.request.async.WebAsyncTask;
 import ru.mssecondteam.reviewservice.dto.EventReviewStats;
 import ru.mssecondteam.reviewservice.dto.LikeDto;
 import ru.mssecondteam.reviewservice.dto.NewReviewRequest;
+import ru.mssecondteam.reviewservice.dto.NewReviewsBatchRequest;
+import ru.mssecondteam.reviewservice.dto.ReviewBatchItemResult;
 import ru.mssecondteam.reviewservice.dto.ReviewDto;
+import ru.mssecondteam.reviewservice.dto.ReviewExportTrailer;
+import ru.mssecondteam.reviewservice.dto.ReviewPageDto;
 import ru.mssecondteam.reviewservice.dto.ReviewUpdateRequest;
 import ru.mssecondteam.reviewservice.dto.TopReviewsDto;
 import ru.mssecondteam.reviewservice.dto.UserReviewStats;
+import ru.mssecondteam.reviewservice.exception.NotAuthorizedException;
+import ru.mssecondteam.reviewservice.exception.NotFoundException;
 import ru.mssecondteam.reviewservice.mapper.ReviewMapper;
 import ru.mssecondteam.reviewservice.model.Review;
-import ru.mssecondteam.reviewservice.model.TopReviews;
+import ru.mssecondteam.reviewservice.model.ReviewCreationResult;
+import ru.mssecondteam.reviewservice.model.ReviewCursor;
 import ru.mssecondteam.reviewservice.service.ReviewService;
+import ru.mssecondteam.reviewservice.service.etag.ETagService;
+import ru.mssecondteam.reviewservice.service.export.ReviewExportService;
 import ru.mssecondteam.reviewservice.service.like.LikeService;
 import ru.mssecondteam.reviewservice.service.stats.StatsService;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.function.Supplier;
 
 import static ru.mssecondteam.reviewservice.mapper.ReviewMapper.getReviewsIds;
 
@@ -53,7 +73,10 @@ public class ReviewController {
     private final ReviewService reviewService;
     private final LikeService likeService;
     private final StatsService statsService;
+    private final ETagService eTagService;
+    private final ReviewExportService reviewExportService;
     private final ReviewMapper reviewMapper;
+    private final Validator validator;
 
     @PostMapping
     @ResponseStatus(HttpStatus.CREATED)
@@ -73,6 +96,41 @@ public class ReviewController {
         return reviewMapper.toDto(createdReview);
     }
 
+    @PostMapping("/batch")
+    @Operation(summary = "Create several reviews", description = "Creates up to 500 reviews in one request, " +
+            "checking every event and its registrations once. Each review is validated and reported separately")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Reviews were processed, see status of each review",
+                    content = @Content(schema = @Schema(implementation = ReviewBatchItemResult.class))),
+            @ApiResponse(responseCode = "400", description = "Incorrect data"),
+            @ApiResponse(responseCode = "500", description = "Unknown error")
+    })
+    public List<ReviewBatchItemResult> createReviews(
+            @RequestBody @Valid @Parameter(description = "New reviews") NewReviewsBatchRequest batchRequest,
+            @RequestHeader("X-User-Id") @Parameter(description = "ID of the user creating the reviews") Long userId) {
+        log.info("User with id '{}' publishing '{}' reviews", userId, batchRequest.reviews().size());
+        final List<NewReviewRequest> newReviews = batchRequest.reviews();
+        final ReviewBatchItemResult[] results = new ReviewBatchItemResult[newReviews.size()];
+        final List<Review> reviews = new ArrayList<>(newReviews.size());
+        final List<Integer> reviewsIndexes = new ArrayList<>(newReviews.size());
+        for (int i = 0; i < newReviews.size(); i++) {
+            final Map<String, String> errors = validateNewReview(newReviews.get(i));
+            if (errors.isEmpty()) {
+                reviews.add(reviewMapper.toModel(newReviews.get(i)));
+                reviewsIndexes.add(i);
+            } else {
+                results[i] = new ReviewBatchItemResult(i, HttpStatus.BAD_REQUEST.value(), null, errors);
+            }
+        }
+        if (!reviews.isEmpty()) {
+            final List<ReviewCreationResult> creationResults = reviewService.createReviews(reviews, userId);
+            for (int i = 0; i < creationResults.size(); i++) {
+                results[reviewsIndexes.get(i)] = toBatchItemResult(reviewsIndexes.get(i), creationResults.get(i));
+            }
+        }
+        return List.of(results);
+    }
+
     @PatchMapping("/{reviewId}")
     @Operation(summary = "Update Review", description = "Updates an existing review by its ID")
     @ApiResponses({
@@ -98,16 +156,41 @@ public class ReviewController {
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "Review found",
                     content = @Content(schema = @Schema(implementation = ReviewDto.class))),
+            @ApiResponse(responseCode = "304", description = "Review was not modified"),
             @ApiResponse(responseCode = "404", description = "Review not found"),
             @ApiResponse(responseCode = "500", description = "Unknown error")
     })
     public ReviewDto findReviewById(
             @PathVariable @Parameter(description = "Review ID") Long reviewId,
-            @RequestHeader("X-User-Id") @Parameter(description = "ID of the user requesting review") Long userId) {
+            @RequestHeader("X-User-Id") @Parameter(description = "ID of the user requesting review") Long userId,
+            WebRequest request) {
         log.debug("User with id '{}' requesting review with id '{}'", userId, reviewId);
-        final Review review = reviewService.findReviewById(reviewId, userId);
-        final LikeDto likeDto = likeService.getNumberOfLikesAndDislikesByReviewId(review.getId());
-        return reviewMapper.toDtoWithLikes(review, likeDto);
+        final String eTag = eTagService.getReviewETag(reviewId);
+        return getIfModified(request, eTag, () -> reviewService.findReviewWithLikesById(reviewId, userId, eTag));
+    }
+
+    @GetMapping("/batch")
+    @Operation(summary = "Get reviews by IDs", description = "Returns reviews with the specified IDs in the requested " +
+            "order. Unknown IDs are skipped")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Reviews successfully received",
+                    content = @Content(schema = @Schema(implementation = ReviewDto.class))),
+            @ApiResponse(responseCode = "304", description = "Reviews were not modified"),
+            @ApiResponse(responseCode = "400", description = "Incorrect data"),
+            @ApiResponse(responseCode = "500", description = "Unknown error")
+    })
+    public List<ReviewDto> findReviewsByIds(
+            @RequestParam @Parameter(description = "Review IDs") List<Long> ids,
+            @RequestHeader("X-User-Id") @Parameter(description = "User ID") Long userId,
+            WebRequest request) {
+        log.debug("User with id '{}' requesting '{}' reviews by ids", userId, ids.size());
+        if (isNotModified(request, eTagService.getReviewsETag(ids))) {
+            return null;
+        }
+        final List<Review> reviews = reviewService.findReviewsByIds(ids, userId);
+        final List<Long> reviewsIds = getReviewsIds(reviews);
+        final Map<Long, LikeDto> likesDto = likeService.getNumberOfLikesAndDislikesByListReviewsId(reviewsIds);
+        return reviewMapper.toDtoListWithLikes(reviews, likesDto);
     }
 
     @GetMapping
@@ -115,6 +198,7 @@ public class ReviewController {
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "Reviews successfully received",
                     content = @Content(schema = @Schema(implementation = ReviewDto.class))),
+            @ApiResponse(responseCode = "304", description = "Reviews were not modified"),
             @ApiResponse(responseCode = "400", description = "Incorrect data"),
             @ApiResponse(responseCode = "500", description = "Unknown error")
     })
@@ -122,12 +206,68 @@ public class ReviewController {
             @RequestParam @Parameter(description = "Review ID") Long eventId,
             @RequestParam(defaultValue = "0") @PositiveOrZero @Parameter(description = "Page number") Integer page,
             @RequestParam(defaultValue = "10") @Positive @Parameter(description = "Page size") Integer size,
-            @RequestHeader("X-User-Id") @Parameter(description = "User ID") Long userId) {
+            @RequestHeader("X-User-Id") @Parameter(description = "User ID") Long userId,
+            WebRequest request) {
         log.debug("Requesting reviews for event with id '{}", eventId);
-        final List<Review> eventReviews = reviewService.findReviewsByEventId(eventId, page, size, userId);
-        final List<Long> reviewsIds = getReviewsIds(eventReviews);
-        final Map<Long, LikeDto> likesDto = likeService.getNumberOfLikesAndDislikesByListReviewsId(reviewsIds);
-        return reviewMapper.toDtoListWithLikes(eventReviews, likesDto);
+        return getIfModified(request, eTagService.getEventReviewsETag(eventId, page, size),
+                () -> likeService.getReviewsWithActualCounters(
+                        () -> reviewService.findReviewsByEventId(eventId, page, size, userId)));
+    }
+
+    @GetMapping("/scroll")
+    @Operation(summary = "Scroll reviews for an event", description = "Returns a page of reviews for the specified event " +
+            "ordered by creation time, starting after the given cursor")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Reviews successfully received",
+                    content = @Content(schema = @Schema(implementation = ReviewPageDto.class))),
+            @ApiResponse(responseCode = "304", description = "Reviews were not modified"),
+            @ApiResponse(responseCode = "400", description = "Incorrect data"),
+            @ApiResponse(responseCode = "500", description = "Unknown error")
+    })
+    public ReviewPageDto scrollReviewsByEventId(
+            @RequestParam @Parameter(description = "Event ID") Long eventId,
+            @RequestParam(required = false) @Parameter(description = "Cursor of the page returned by the previous request") String cursor,
+            @RequestParam(defaultValue = "10") @Positive @Parameter(description = "Page size") Integer size,
+            @RequestHeader("X-User-Id") @Parameter(description = "User ID") Long userId,
+            WebRequest request) {
+        log.debug("Requesting reviews for event with id '{}' after cursor '{}'", eventId, cursor);
+        final ReviewCursor reviewCursor = cursor == null ? null : ReviewCursor.decode(cursor);
+        return getIfModified(request, eTagService.getEventReviewsETag(eventId, cursor, size), () -> {
+            final List<ReviewDto> eventReviews = likeService.getReviewsWithActualCounters(
+                    () -> reviewService.findReviewsByEventIdAfter(eventId, reviewCursor, size, userId));
+            final String nextCursor = eventReviews.size() < size ? null
+                    : ReviewCursor.of(eventReviews.get(eventReviews.size() - 1)).encode();
+            return new ReviewPageDto(eventReviews, nextCursor);
+        });
+    }
+
+    @GetMapping("/export")
+    @Operation(summary = "Export reviews for an event", description = "Streams all reviews of the specified event with " +
+            "like counters as NDJSON ordered by creation time. The last line contains the number of exported reviews. " +
+            "If the export times out after streaming started, the last line contains an error instead of completing " +
+            "the export. The response is gzip compressed when the client accepts it")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Reviews are streamed one per line",
+                    content = @Content(mediaType = MediaType.APPLICATION_NDJSON_VALUE,
+                            schema = @Schema(oneOf = {ReviewDto.class, ReviewExportTrailer.class}))),
+            @ApiResponse(responseCode = "429", description = "Too many exports are running"),
+            @ApiResponse(responseCode = "500", description = "Unknown error")
+    })
+    public WebAsyncTask<Void> exportReviewsByEventId(
+            @RequestParam @Parameter(description = "Event ID") Long eventId,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false)
+            @Parameter(description = "Accepted encodings, gzip is supported") String acceptEncoding,
+            @RequestHeader("X-User-Id") @Parameter(description = "User ID") Long userId,
+            HttpServletResponse response) {
+        log.info("User with id '{}' exporting reviews for event with id '{}'", userId, eventId);
+        final boolean gzip = acceptsGzip(acceptEncoding);
+        final WebAsyncTask<Void> export = reviewExportService.exportEventReviews(eventId, gzip, response);
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        response.setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (gzip) {
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return export;
     }
 
     @DeleteMapping("/{reviewId}")
@@ -160,9 +300,7 @@ public class ReviewController {
             @PathVariable @Parameter(description = "Review ID") Long reviewId,
             @RequestHeader("X-User-Id") @Parameter(description = "ID of the user adding the like") Long userId) {
         log.info("User with id '{}' add like to review with id '{}'", userId, reviewId);
-        final Review review = reviewService.addLikeOrDislike(reviewId, userId, true);
-        final LikeDto likeDto = likeService.getNumberOfLikesAndDislikesByReviewId(review.getId());
-        return reviewMapper.toDtoWithLikes(review, likeDto);
+        return reviewService.addLikeOrDislike(reviewId, userId, true);
     }
 
     @DeleteMapping("/{reviewId}/like")
@@ -179,9 +317,7 @@ public class ReviewController {
             @PathVariable @Parameter(description = "Review ID") Long reviewId,
             @RequestHeader("X-User-Id") @Parameter(description = "User ID") Long userId) {
         log.info("User with id '{}' delete like to review with id '{}'", userId, reviewId);
-        final Review review = reviewService.deleteLikeOrDislike(reviewId, userId, true);
-        final LikeDto likeDto = likeService.getNumberOfLikesAndDislikesByReviewId(review.getId());
-        return reviewMapper.toDtoWithLikes(review, likeDto);
+        return reviewService.deleteLikeOrDislike(reviewId, userId, true);
     }
 
     @PostMapping("/{reviewId}/dislike")
@@ -198,9 +334,7 @@ public class ReviewController {
             @PathVariable @Parameter(description = "Review ID") Long reviewId,
             @RequestHeader("X-User-Id") @Parameter(description = "ID of the user adding the dislike") Long userId) {
         log.info("User with id '{}' add dislike to review with id '{}'", userId, reviewId);
-        final Review review = reviewService.addLikeOrDislike(reviewId, userId, false);
-        final LikeDto likeDto = likeService.getNumberOfLikesAndDislikesByReviewId(review.getId());
-        return reviewMapper.toDtoWithLikes(review, likeDto);
+        return reviewService.addLikeOrDislike(reviewId, userId, false);
     }
 
     @DeleteMapping("/{reviewId}/dislike")
@@ -217,9 +351,7 @@ public class ReviewController {
             @PathVariable @Parameter(description = "Review ID") Long reviewId,
             @RequestHeader("X-User-Id") @Parameter(description = "User ID") Long userId) {
         log.info("User with id '{}' delete dislike to review with id '{}'", userId, reviewId);
-        final Review review = reviewService.deleteLikeOrDislike(reviewId, userId, false);
-        final LikeDto likeDto = likeService.getNumberOfLikesAndDislikesByReviewId(review.getId());
-        return reviewMapper.toDtoWithLikes(review, likeDto);
+        return reviewService.deleteLikeOrDislike(reviewId, userId, false);
     }
 
     @GetMapping("/top")
@@ -227,14 +359,16 @@ public class ReviewController {
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "Top reviews have been successfully received",
                     content = @Content(schema = @Schema(implementation = TopReviewsDto.class))),
+            @ApiResponse(responseCode = "304", description = "Top reviews were not modified"),
             @ApiResponse(responseCode = "404", description = "Review not found"),
             @ApiResponse(responseCode = "500", description = "Unknown error")
     })
     public TopReviewsDto getTopReviewsForEvent(
-            @RequestParam @Parameter(description = "Review ID") Long eventId) {
+            @RequestParam @Parameter(description = "Review ID") Long eventId,
+            WebRequest request) {
         log.info("Requesting top reviews for event with id '{}'", eventId);
-        final TopReviews topReviews = reviewService.getTopReviews(eventId);
-        return getLikesAndMapToDto(topReviews);
+        final String eTag = eTagService.getEventReviewsETag(eventId);
+        return getIfModified(request, eTag, () -> reviewService.getTopReviews(eventId, eTag));
     }
 
     @GetMapping("/stats/events/{eventId}")
@@ -242,15 +376,40 @@ public class ReviewController {
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "Statistics successfully received",
                     content = @Content(schema = @Schema(implementation = EventReviewStats.class))),
+            @ApiResponse(responseCode = "304", description = "Statistics were not modified"),
             @ApiResponse(responseCode = "404", description = "Review not found"),
             @ApiResponse(responseCode = "500", description = "Unknown error")
     })
     public EventReviewStats getEventReviewsStats(
-            @PathVariable @Parameter(description = "Review ID") Long eventId) {
+            @PathVariable @Parameter(description = "Review ID") Long eventId,
+            WebRequest request) {
         log.info("Requesting reviews stats for event with id '{}'", eventId);
+        if (isNotModified(request, eTagService.getEventETag(eventId))) {
+            return null;
+        }
         return statsService.getEventReviewsStats(eventId);
     }
 
+    @GetMapping("/stats/events")
+    @Operation(summary = "Get review statistics for several events", description = "Returns review statistics " +
+            "for the events by IDs, mapped by event ID. Events without reviews are skipped")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Statistics successfully received",
+                    content = @Content(schema = @Schema(implementation = EventReviewStats.class))),
+            @ApiResponse(responseCode = "304", description = "Statistics were not modified"),
+            @ApiResponse(responseCode = "400", description = "Incorrect data"),
+            @ApiResponse(responseCode = "500", description = "Unknown error")
+    })
+    public Map<Long, EventReviewStats> getEventsReviewsStats(
+            @RequestParam @Parameter(description = "Event IDs") List<Long> eventIds,
+            WebRequest request) {
+        log.info("Requesting reviews stats for '{}' events", eventIds.size());
+        if (isNotModified(request, eTagService.getEventsETag(eventIds))) {
+            return null;
+        }
+        return statsService.getEventsReviewsStats(eventIds);
+    }
+
     @GetMapping("/stats/users/{authorId}")
     @Operation(summary = "Get user review statistics", description = "Returns review statistics for the user with the specified ID")
     @ApiResponses({
@@ -265,20 +424,81 @@ public class ReviewController {
         return statsService.getUserReviewsStats(authorId);
     }
 
-    private TopReviewsDto getLikesAndMapToDto(TopReviews topReviews) {
-        List<Long> bestReviewsIds = topReviews.bestReviews()
-                .stream()
-                .map(Review::getId)
-                .toList();
-        Map<Long, LikeDto> bestLikesDto = likeService.getNumberOfLikesAndDislikesByListReviewsId(bestReviewsIds);
-        List<ReviewDto> bestReviewsDto = reviewMapper.toDtoListWithLikes(topReviews.bestReviews(), bestLikesDto);
+    private boolean isNotModified(WebRequest request, String eTag) {
+        return eTag != null && request.checkNotModified(eTag);
+    }
+
+    private <T> T getIfModified(WebRequest request, String versionETag, Supplier<T> loader) {
+        if (isNotModified(request, versionETag)) {
+            return null;
+        }
+        final T representation = loader.get();
+        if (versionETag == null && isNotModified(request, eTagService.getRepresentationETag(representation))) {
+            return null;
+        }
+        return representation;
+    }
+
+    private boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        Double gzipQuality = null;
+        Double anyQuality = null;
+        for (String coding : acceptEncoding.split(",")) {
+            final String[] parts = coding.split(";");
+            final String name = parts[0].trim().toLowerCase(Locale.ROOT);
+            if (name.equals("gzip") || name.equals("x-gzip")) {
+                gzipQuality = Math.max(gzipQuality == null ? 0 : gzipQuality, getQuality(parts));
+            } else if (name.equals("*")) {
+                anyQuality = getQuality(parts);
+            }
+        }
+        if (gzipQuality != null) {
+            return gzipQuality > 0;
+        }
+        return anyQuality != null && anyQuality > 0;
+    }
+
+    private double getQuality(String[] codingParts) {
+        for (int i = 1; i < codingParts.length; i++) {
+            final String parameter = codingParts[i].trim();
+            if (parameter.regionMatches(true, 0, "q=", 0, 2)) {
+                try {
+                    return Double.parseDouble(parameter.substring(2).trim());
+                } catch (NumberFormatException e) {
+                    return 0;
+                }
+            }
+        }
+        return 1;
+    }
+
+    private Map<String, String> validateNewReview(NewReviewRequest newReview) {
+        if (newReview == null) {
+            return Map.of("error", "Review can not be null");
+        }
+        final Map<String, String> errors = new HashMap<>();
+        for (ConstraintViolation<NewReviewRequest> violation : validator.validate(newReview)) {
+            errors.put(violation.getPropertyPath().toString(), violation.getMessage());
+        }
+        return errors;
+    }
 
-        List<Long> worstReviewsIds = topReviews.worstReviews()
-                .stream()
-                .map(Review::getId)
-                .toList();
-        Map<Long, LikeDto> worstLikesDto = likeService.getNumberOfLikesAndDislikesByListReviewsId(worstReviewsIds);
-        List<ReviewDto> worstReviewsDto = reviewMapper.toDtoListWithLikes(topReviews.worstReviews(), worstLikesDto);
-        return new TopReviewsDto(bestReviewsDto, worstReviewsDto);
+    private ReviewBatchItemResult toBatchItemResult(int index, ReviewCreationResult result) {
+        if (result.isCreated()) {
+            return new ReviewBatchItemResult(index, HttpStatus.CREATED.value(), reviewMapper.toDto(result.review()),
+                    null);
+        }
+        final HttpStatus status;
+        if (result.error() instanceof NotFoundException) {
+            status = HttpStatus.NOT_FOUND;
+        } else if (result.error() instanceof NotAuthorizedException) {
+            status = HttpStatus.FORBIDDEN;
+        } else {
+            status = HttpStatus.BAD_REQUEST;
+        }
+        return new ReviewBatchItemResult(index, status.value(), null,
+                Map.of("error", result.error().getLocalizedMessage()));
     }
 }
\ No newline at end of file
@@ -0,0 +1,17 @@
+package ru.mssecondteam.reviewservice.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+@Schema(description = "Creating several reviews at once")
+public record NewReviewsBatchRequest(
+
+        @NotEmpty(message = "Reviews must contain between 1 and 500 items.")
+        @Size(max = 500, message = "Reviews must contain between 1 and 500 items.")
+        @Schema(description = "New reviews, each one is validated and created independently")
+        List<NewReviewRequest> reviews
+) {
+}
@@ -0,0 +1,22 @@
+package ru.mssecondteam.reviewservice.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.Map;
+
+@Schema(description = "Result of creating one review of a batch")
+public record ReviewBatchItemResult(
+
+        @Schema(description = "Position of the review in the request", example = "0")
+        Integer index,
+
+        @Schema(description = "HTTP status the review would get if created alone", example = "201")
+        Integer status,
+
+        @Schema(description = "Created review, null if the review was rejected")
+        ReviewDto review,
+
+        @Schema(description = "Errors of the rejected review, null if the review was created")
+        Map<String, String> errors
+) {
+}
@@ -0,0 +1,21 @@
+package ru.mssecondteam.reviewservice.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "Last line of a reviews export, written after all reviews were streamed or when the export " +
+        "was aborted.")
+public record ReviewExportTrailer(
+
+        @Schema(description = "ID of the exported event.", example = "1")
+        Long eventId,
+
+        @Schema(description = "Number of exported reviews.", example = "15000")
+        long rowCount,
+
+        @Schema(description = "Reason the export was aborted. Absent when the export is complete.",
+                example = "Export timed out")
+        @JsonInclude(JsonInclude.Include.NON_NULL)
+        String error
+) {
+}
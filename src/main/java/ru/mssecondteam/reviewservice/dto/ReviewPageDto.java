@@ -0,0 +1,16 @@
+package ru.mssecondteam.reviewservice.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@Schema(description = "Page of event reviews with a cursor to the next page.")
+public record ReviewPageDto(
+
+        @Schema(description = "Reviews of the page ordered by creation time.")
+        List<ReviewDto> reviews,
+
+        @Schema(description = "Opaque cursor of the next page, null if there are no more reviews.", example = "MjAyNC0xMS0yN1QxMDoxNTozMF8xMg")
+        String nextCursor
+) {
+}
@@ -38,7 +38,25 @@ public class ApplicationExceptionHandler {
         return errorResponse;
     }
 
-    @ExceptionHandler({ValidationException.class, MethodArgumentNotValidException.class})
+    @ExceptionHandler(ValidationException.class)
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    public ErrorResponse handleValidationException(ValidationException ex) {
+        Map<String, String> error = Map.of("error", ex.getLocalizedMessage());
+        ErrorResponse errorResponse = new ErrorResponse(error, HttpStatus.BAD_REQUEST.value(), LocalDateTime.now());
+        log.error(ex.getLocalizedMessage());
+        return errorResponse;
+    }
+
+    @ExceptionHandler(TooManyRequestsException.class)
+    @ResponseStatus(HttpStatus.TOO_MANY_REQUESTS)
+    public ErrorResponse handleTooManyRequestsException(TooManyRequestsException ex) {
+        Map<String, String> error = Map.of("error", ex.getLocalizedMessage());
+        ErrorResponse errorResponse = new ErrorResponse(error, HttpStatus.TOO_MANY_REQUESTS.value(), LocalDateTime.now());
+        log.warn(ex.getLocalizedMessage());
+        return errorResponse;
+    }
+
+    @ExceptionHandler(MethodArgumentNotValidException.class)
     @ResponseStatus(HttpStatus.BAD_REQUEST)
     public ErrorResponse handleMetÒhodArgumentNotValidException(MethodArgumentNotValidException ex) {
         Map<String, String> exceptions = new HashMap<>();
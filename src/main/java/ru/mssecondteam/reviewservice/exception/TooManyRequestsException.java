@@ -0,0 +1,7 @@
+package ru.mssecondteam.reviewservice.exception;
+
+public class TooManyRequestsException extends RuntimeException {
+    public TooManyRequestsException(String message) {
+        super(message);
+    }
+}
@@ -11,11 +11,9 @@ import ru.mssecondteam.reviewservice.dto.ReviewDto;
 import ru.mssecondteam.reviewservice.dto.ReviewUpdateRequest;
 import ru.mssecondteam.reviewservice.model.Review;
 
-import java.util.ArrayList;
-import java.util.LinkedHashMap;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
 
 @Mapper(componentModel = "spring")
 public interface ReviewMapper {
@@ -41,21 +39,20 @@ public interface ReviewMapper {
     @Mapping(target = "numberOfDislikes", expression = "java(likeDto == null ? 0 : likeDto.numbersOfDislikes())")
     ReviewDto toDtoWithLikes(Review review, LikeDto likeDto);
 
-    default List<ReviewDto> toDtoListWithLikes(List<Review> eventReviews, Map<Long, LikeDto> reviewIdToLikeDto) {
-        final Map<Long, Review> reviewIdToReview = new LinkedHashMap<>();
-        eventReviews.forEach(review -> reviewIdToReview.put(review.getId(), review));
-        final List<ReviewDto> result = new ArrayList<>();
-        for (Long reviewId : reviewIdToReview.keySet()) {
-            final Review review = reviewIdToReview.get(reviewId);
-            final LikeDto likeDto = reviewIdToLikeDto.get(reviewId);
-            result.add(toDtoWithLikes(review, likeDto));
+    default List<ReviewDto> toDtoListWithLikes(List<Review> reviews, Map<Long, LikeDto> reviewIdToLikeDto) {
+        final ReviewDto[] result = new ReviewDto[reviews.size()];
+        for (int i = 0; i < result.length; i++) {
+            final Review review = reviews.get(i);
+            result[i] = toDtoWithLikes(review, reviewIdToLikeDto.get(review.getId()));
         }
-        return result;
+        return Arrays.asList(result);
     }
 
     static List<Long> getReviewsIds(List<Review> reviews) {
-        return reviews.stream()
-                .map(Review::getId)
-                .collect(Collectors.toList());
+        final Long[] reviewsIds = new Long[reviews.size()];
+        for (int i = 0; i < reviewsIds.length; i++) {
+            reviewsIds[i] = reviews.get(i).getId();
+        }
+        return Arrays.asList(reviewsIds);
     }
 }
\ No newline at end of file
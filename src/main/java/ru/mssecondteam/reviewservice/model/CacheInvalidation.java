@@ -0,0 +1,60 @@
+package ru.mssecondteam.reviewservice.model;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+public record CacheInvalidation(
+
+        String nodeId,
+
+        List<Long> reviewsIds,
+
+        List<Long> eventsIds,
+
+        boolean flushAll
+) {
+
+    private static final String SEPARATOR = "|";
+
+    private static final String IDS_SEPARATOR = ",";
+
+    private static final String FLUSH_ALL = "*";
+
+    public static CacheInvalidation flushAll(String nodeId) {
+        return new CacheInvalidation(nodeId, List.of(), List.of(), true);
+    }
+
+    public static CacheInvalidation decode(String payload) {
+        final String[] parts = payload.split("\\" + SEPARATOR, -1);
+        if (parts.length == 2 && FLUSH_ALL.equals(parts[1])) {
+            return flushAll(parts[0]);
+        }
+        if (parts.length != 3) {
+            throw new IllegalArgumentException(String.format("Cache invalidation '%s' is invalid", payload));
+        }
+        return new CacheInvalidation(parts[0], decodeIds(parts[1]), decodeIds(parts[2]), false);
+    }
+
+    public String encode() {
+        if (flushAll) {
+            return nodeId + SEPARATOR + FLUSH_ALL;
+        }
+        return nodeId + SEPARATOR + encodeIds(reviewsIds) + SEPARATOR + encodeIds(eventsIds);
+    }
+
+    private static List<Long> decodeIds(String ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        return Arrays.stream(ids.split(IDS_SEPARATOR))
+                .map(Long::valueOf)
+                .toList();
+    }
+
+    private static String encodeIds(List<Long> ids) {
+        return ids.stream()
+                .map(String::valueOf)
+                .collect(Collectors.joining(IDS_SEPARATOR));
+    }
+}
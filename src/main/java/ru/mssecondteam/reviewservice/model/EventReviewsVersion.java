@@ -0,0 +1,9 @@
+package ru.mssecondteam.reviewservice.model;
+
+public record EventReviewsVersion(
+
+        long version,
+
+        long voteVersion
+) {
+}
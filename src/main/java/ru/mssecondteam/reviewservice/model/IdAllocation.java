@@ -0,0 +1,9 @@
+package ru.mssecondteam.reviewservice.model;
+
+public final class IdAllocation {
+
+    public static final int SIZE = 50;
+
+    private IdAllocation() {
+    }
+}
@@ -0,0 +1,4 @@
+package ru.mssecondteam.reviewservice.model;
+
+public record PendingVote(Long userId, Long reviewId, Boolean isPositive) {
+}
@@ -0,0 +1,8 @@
+package ru.mssecondteam.reviewservice.model;
+
+public record ReviewCreationResult(Review review, RuntimeException error) {
+
+    public boolean isCreated() {
+        return error == null;
+    }
+}
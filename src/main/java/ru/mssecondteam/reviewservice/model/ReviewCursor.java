@@ -0,0 +1,43 @@
+package ru.mssecondteam.reviewservice.model;
+
+import ru.mssecondteam.reviewservice.dto.ReviewDto;
+import ru.mssecondteam.reviewservice.exception.ValidationException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+public record ReviewCursor(
+
+        LocalDateTime createdDateTime,
+
+        Long reviewId
+) {
+
+    private static final String SEPARATOR = "_";
+
+    public static ReviewCursor of(Review review) {
+        return new ReviewCursor(review.getCreatedDateTime(), review.getId());
+    }
+
+    public static ReviewCursor of(ReviewDto review) {
+        return new ReviewCursor(review.createdDateTime(), review.id());
+    }
+
+    public static ReviewCursor decode(String cursor) {
+        try {
+            final String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            final int separatorIndex = decoded.lastIndexOf(SEPARATOR);
+            return new ReviewCursor(LocalDateTime.parse(decoded.substring(0, separatorIndex)),
+                    Long.parseLong(decoded.substring(separatorIndex + 1)));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+            throw new ValidationException(String.format("Cursor '%s' is invalid", cursor));
+        }
+    }
+
+    public String encode() {
+        final String raw = createdDateTime + SEPARATOR + reviewId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,13 @@
+package ru.mssecondteam.reviewservice.model;
+
+import java.time.LocalDateTime;
+
+public record ReviewVersion(
+
+        Long reviewId,
+
+        LocalDateTime updatedDateTime,
+
+        long voteVersion
+) {
+}
@@ -0,0 +1,6 @@
+package ru.mssecondteam.reviewservice.model;
+
+import ru.mssecondteam.reviewservice.dto.ReviewDto;
+
+public record ReviewVoteState(ReviewDto review, Long authorId, Boolean userVote) {
+}
@@ -0,0 +1,10 @@
+package ru.mssecondteam.reviewservice.model;
+
+import ru.mssecondteam.reviewservice.dto.ReviewDto;
+
+public record VoteResult(ReviewDto review, Long authorId, boolean hadVote, long likesDelta, long dislikesDelta) {
+
+    public boolean isCountersChanged() {
+        return likesDelta != 0 || dislikesDelta != 0;
+    }
+}
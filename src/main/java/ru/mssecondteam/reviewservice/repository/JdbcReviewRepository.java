@@ -1,11 +1,16 @@
 package ru.mssecondteam.reviewservice.repository;
 
-import org.springframework.data.domain.Sort;
-import ru.mssecondteam.reviewservice.model.Review;
+import ru.mssecondteam.reviewservice.dto.ReviewDto;
+import ru.mssecondteam.reviewservice.dto.TopReviewsDto;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 public interface JdbcReviewRepository {
 
-    List<Review> getTopReviewsForEvent(Long eventId, int limit, Sort.Direction sortDirection);
+    TopReviewsDto getTopReviewsForEvent(Long eventId, int limit);
+
+    List<ReviewDto> findReviewDtosByEventId(Long eventId, int offset, int limit);
+
+    List<ReviewDto> findReviewDtosByEventIdAfter(Long eventId, LocalDateTime createdDateTime, Long reviewId, int limit);
 }
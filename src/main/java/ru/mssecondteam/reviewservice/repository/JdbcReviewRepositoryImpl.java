@@ -1,59 +1,98 @@
 package ru.mssecondteam.reviewservice.repository;
 
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Sort;
 import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 import org.springframework.jdbc.core.namedparam.SqlParameterSource;
 import org.springframework.stereotype.Repository;
-import ru.mssecondteam.reviewservice.model.Review;
+import ru.mssecondteam.reviewservice.dto.ReviewDto;
+import ru.mssecondteam.reviewservice.dto.TopReviewsDto;
 
 import java.sql.ResultSet;
 import java.sql.SQLException;
-import java.util.ArrayList;
+import java.time.LocalDateTime;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Objects;
 
 @Repository
 @RequiredArgsConstructor
 public class JdbcReviewRepositoryImpl implements JdbcReviewRepository {
 
+    private static final String REVIEW_DTO_COLUMNS = "r.review_id, r.title, r.content, r.username, r.mark, " +
+            "r.event_id, r.created_at, r.updated_at, r.number_of_likes, r.number_of_dislikes ";
+
     private final NamedParameterJdbcTemplate jdbcTemplate;
 
     @Override
-    public List<Review> getTopReviewsForEvent(Long eventId, int limit, Sort.Direction sortDirection) {
+    public TopReviewsDto getTopReviewsForEvent(Long eventId, int limit) {
         SqlParameterSource namedParam = new MapSqlParameterSource()
                 .addValue("eventId", eventId)
                 .addValue("limit", limit);
 
-        String sql = "SELECT r.* " +
+        final String sql = "SELECT * " +
+                "FROM (SELECT " + REVIEW_DTO_COLUMNS + ", " +
+                "ROW_NUMBER() OVER (ORDER BY r.number_of_likes - r.number_of_dislikes DESC, r.review_id) AS best_rank, " +
+                "ROW_NUMBER() OVER (ORDER BY r.number_of_likes - r.number_of_dislikes ASC, r.review_id) AS worst_rank " +
+                "FROM reviews r " +
+                "WHERE r.event_id = :eventId) ranked " +
+                "WHERE best_rank <= :limit OR worst_rank <= :limit";
+        return jdbcTemplate.query(sql, namedParam, rs -> mapToTopReviews(rs, limit));
+    }
+
+    @Override
+    public List<ReviewDto> findReviewDtosByEventId(Long eventId, int offset, int limit) {
+        SqlParameterSource namedParams = new MapSqlParameterSource()
+                .addValue("eventId", eventId)
+                .addValue("offset", offset)
+                .addValue("limit", limit);
+
+        final String sql = "SELECT " + REVIEW_DTO_COLUMNS +
                 "FROM reviews r " +
-                "LEFT JOIN likes l " +
-                "ON r.review_id  = l.review_id " +
                 "WHERE r.event_id = :eventId " +
-                "GROUP BY r.review_id " +
-                "ORDER BY (SUM(CASE WHEN l.is_positive  = TRUE THEN 1 ELSE 0 END) - SUM(CASE WHEN l.is_positive = FALSE THEN 1 ELSE 0 END)) ";
+                "ORDER BY r.created_at, r.review_id " +
+                "LIMIT :limit OFFSET :offset";
+        return jdbcTemplate.query(sql, namedParams, ReviewDtoRowMapper.INSTANCE);
+    }
 
-        switch (sortDirection) {
-            case ASC -> sql += "ASC LIMIT :limit";
-            case DESC -> sql += "DESC LIMIT :limit";
-        }
-        return jdbcTemplate.query(sql, namedParam, this::mapToReviewList);
+    @Override
+    public List<ReviewDto> findReviewDtosByEventIdAfter(Long eventId, LocalDateTime createdDateTime, Long reviewId,
+                                                        int limit) {
+        SqlParameterSource namedParams = new MapSqlParameterSource()
+                .addValue("eventId", eventId)
+                .addValue("createdAt", createdDateTime)
+                .addValue("reviewId", reviewId)
+                .addValue("limit", limit);
+
+        final String sql = "SELECT " + REVIEW_DTO_COLUMNS +
+                "FROM reviews r " +
+                "WHERE r.event_id = :eventId " +
+                "AND (r.created_at, r.review_id) > (:createdAt, :reviewId) " +
+                "ORDER BY r.created_at, r.review_id " +
+                "LIMIT :limit";
+        return jdbcTemplate.query(sql, namedParams, ReviewDtoRowMapper.INSTANCE);
     }
 
-    private List<Review> mapToReviewList(ResultSet rs) throws SQLException {
-        final List<Review> reviews = new ArrayList<>();
+    private TopReviewsDto mapToTopReviews(ResultSet rs, int limit) throws SQLException {
+        final ReviewDto[] bestReviews = new ReviewDto[limit];
+        final ReviewDto[] worstReviews = new ReviewDto[limit];
         while (rs.next()) {
-            reviews.add(Review.builder()
-                    .id(rs.getLong("review_id"))
-                    .title(rs.getString("title"))
-                    .content(rs.getString("content"))
-                    .mark(rs.getInt("mark"))
-                    .eventId(rs.getLong("event_id"))
-                    .username(rs.getString("username"))
-                    .createdDateTime(rs.getTimestamp("created_at").toLocalDateTime())
-                    .updatedDateTime(rs.getTimestamp("updated_at").toLocalDateTime())
-                    .build());
+            final ReviewDto review = ReviewDtoRowMapper.INSTANCE.mapRow(rs, rs.getRow());
+            final int bestRank = rs.getInt("best_rank");
+            final int worstRank = rs.getInt("worst_rank");
+            if (bestRank <= limit) {
+                bestReviews[bestRank - 1] = review;
+            }
+            if (worstRank <= limit) {
+                worstReviews[worstRank - 1] = review;
+            }
         }
-        return reviews;
+        return new TopReviewsDto(toList(bestReviews), toList(worstReviews));
+    }
+
+    private List<ReviewDto> toList(ReviewDto[] rankedReviews) {
+        return Arrays.stream(rankedReviews)
+                .filter(Objects::nonNull)
+                .toList();
     }
 }
@@ -0,0 +1,28 @@
+package ru.mssecondteam.reviewservice.repository;
+
+import org.springframework.jdbc.core.RowMapper;
+import ru.mssecondteam.reviewservice.dto.ReviewDto;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+public class ReviewDtoRowMapper implements RowMapper<ReviewDto> {
+
+    public static final ReviewDtoRowMapper INSTANCE = new ReviewDtoRowMapper();
+
+    @Override
+    public ReviewDto mapRow(ResultSet rs, int rowNum) throws SQLException {
+        return ReviewDto.builder()
+                .id(rs.getLong("review_id"))
+                .title(rs.getString("title"))
+                .content(rs.getString("content"))
+                .username(rs.getString("username"))
+                .mark(rs.getInt("mark"))
+                .eventId(rs.getLong("event_id"))
+                .createdDateTime(rs.getTimestamp("created_at").toLocalDateTime())
+                .updatedDateTime(rs.getTimestamp("updated_at").toLocalDateTime())
+                .numberOfLikes(rs.getLong("number_of_likes"))
+                .numberOfDislikes(rs.getLong("number_of_dislikes"))
+                .build();
+    }
+}
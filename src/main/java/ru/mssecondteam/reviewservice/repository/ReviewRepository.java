@@ -1,12 +1,18 @@
 package ru.mssecondteam.reviewservice.repository;
 
-import org.springframework.data.domain.Pageable;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
 import ru.mssecondteam.reviewservice.model.Review;
 
-import java.util.List;
+import java.util.Optional;
 
 public interface ReviewRepository extends JpaRepository<Review, Long>, JdbcReviewRepository {
 
-    List<Review> findReviewsByEventId(Long eventId, Pageable pageable);
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT r " +
+            "FROM Review r " +
+            "WHERE r.id = ?1")
+    Optional<Review> findByIdForUpdate(Long reviewId);
 }
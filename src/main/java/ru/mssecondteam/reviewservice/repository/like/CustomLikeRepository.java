@@ -1,7 +1,12 @@
 package ru.mssecondteam.reviewservice.repository.like;
 
 import ru.mssecondteam.reviewservice.dto.LikeDto;
+import ru.mssecondteam.reviewservice.model.CountersChange;
+import ru.mssecondteam.reviewservice.model.PendingVote;
+import ru.mssecondteam.reviewservice.model.ReviewVoteState;
+import ru.mssecondteam.reviewservice.model.VoteResult;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -11,4 +16,16 @@ public interface CustomLikeRepository {
     Optional<LikeDto> getLikesAndDislikesByReviewId(Long reviewsId);
 
     Map<Long, LikeDto> getLikesAndDislikesByReviewsIds(List<Long> reviewsIds);
+
+    Optional<VoteResult> addLikeOrDislike(Long reviewId, Long userId, boolean isPositive);
+
+    Optional<VoteResult> deleteLikeOrDislike(Long reviewId, Long userId, boolean isPositive);
+
+    Optional<ReviewVoteState> getReviewWithUserVote(Long reviewId, Long userId);
+
+    void saveVotes(List<PendingVote> votes, int batchSize);
+
+    List<CountersChange> recalculateLikesAndDislikesCounters(Collection<Long> reviewsIds);
+
+    List<Long> lockReviewsIdsAfter(Long reviewId, int limit);
 }
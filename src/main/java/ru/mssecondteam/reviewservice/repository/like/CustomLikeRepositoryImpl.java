@@ -2,11 +2,21 @@ package ru.mssecondteam.reviewservice.repository.like;
 
 import lombok.RequiredArgsConstructor;
 import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
 import org.springframework.stereotype.Repository;
 import ru.mssecondteam.reviewservice.dto.LikeDto;
+import ru.mssecondteam.reviewservice.model.CountersChange;
+import ru.mssecondteam.reviewservice.model.PendingVote;
+import ru.mssecondteam.reviewservice.model.ReviewVoteState;
+import ru.mssecondteam.reviewservice.model.VoteResult;
+import ru.mssecondteam.reviewservice.repository.ReviewDtoRowMapper;
 
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
@@ -17,60 +27,257 @@ import java.util.Optional;
 @RequiredArgsConstructor
 public class CustomLikeRepositoryImpl implements CustomLikeRepository {
 
+    private static final String TARGET_REVIEW_SQL =
+            "select r.review_id, r.author_id " +
+                    "from reviews r " +
+                    "where r.review_id = :reviewId";
+
+    private static final String EXISTING_VOTE_SQL =
+            "select l.like_id, l.is_positive " +
+                    "from likes l " +
+                    "where l.user_id = :userId " +
+                    "and l.review_id = :reviewId " +
+                    "for update";
+
+    private static final String UPDATE_COUNTERS_SQL =
+            "delta as (select " +
+                    "COALESCE(SUM(CASE WHEN c.is_positive THEN c.sign ELSE 0 END), 0) AS likes, " +
+                    "COALESCE(SUM(CASE WHEN c.is_positive THEN 0 ELSE c.sign END), 0) AS dislikes " +
+                    "from (select is_positive, 1 AS sign from inserted " +
+                    "union all " +
+                    "select is_positive, -1 AS sign from removed) c), " +
+                    "updated as (update reviews r " +
+                    "set number_of_likes = r.number_of_likes + d.likes, " +
+                    "number_of_dislikes = r.number_of_dislikes + d.dislikes, " +
+                    "vote_version = nextval('review_versions_seq') " +
+                    "from delta d " +
+                    "where r.review_id = :reviewId " +
+                    "and (d.likes <> 0 OR d.dislikes <> 0) " +
+                    "returning r.review_id, r.number_of_likes, r.number_of_dislikes) " +
+                    "select r.review_id, r.title, r.content, r.username, r.mark, r.event_id, r.created_at, " +
+                    "r.updated_at, r.author_id, " +
+                    "COALESCE(u.number_of_likes, r.number_of_likes) AS number_of_likes, " +
+                    "COALESCE(u.number_of_dislikes, r.number_of_dislikes) AS number_of_dislikes, " +
+                    "exists (select 1 from existing) AS had_vote, " +
+                    "d.likes AS likes_delta, " +
+                    "d.dislikes AS dislikes_delta " +
+                    "from reviews r " +
+                    "cross join delta d " +
+                    "left join updated u on u.review_id = r.review_id " +
+                    "where r.review_id = :reviewId";
+
     private final JdbcTemplate jdbcTemplate;
 
+    private final NamedParameterJdbcTemplate namedJdbcTemplate;
+
     @Override
     public Optional<LikeDto> getLikesAndDislikesByReviewId(Long reviewId) {
         String sql =
                 "select review_id, " +
-                        "COUNT(CASE WHEN is_positive = TRUE THEN 1 END) AS likes, " +
-                        "COUNT(CASE WHEN is_positive = FALSE THEN 1 END) AS dislikes " +
-                        "from likes " +
+                        "number_of_likes AS likes, " +
+                        "number_of_dislikes AS dislikes " +
+                        "from reviews " +
                         "where review_id = ? " +
-                        "group by review_id";
+                        "and (number_of_likes > 0 OR number_of_dislikes > 0)";
 
         return jdbcTemplate.query(sql, this::makeLikeDto, reviewId);
     }
 
     @Override
     public Map<Long, LikeDto> getLikesAndDislikesByReviewsIds(List<Long> reviewsIds) {
+        if (reviewsIds.isEmpty()) {
+            return new HashMap<>();
+        }
         String inSql = String.join(",", Collections.nCopies(reviewsIds.size(), "?"));
 
         String sql =
                 "select review_id, " +
-                        "COUNT(CASE WHEN is_positive = TRUE THEN 1 END) AS likes, " +
-                        "COUNT(CASE WHEN is_positive = FALSE THEN 1 END) AS dislikes " +
-                        "from likes " +
+                        "number_of_likes AS likes, " +
+                        "number_of_dislikes AS dislikes " +
+                        "from reviews " +
                         "where review_id IN (%s) " +
-                        "group by review_id";
+                        "and (number_of_likes > 0 OR number_of_dislikes > 0)";
 
-        return jdbcTemplate.query(String.format(sql, inSql), this::mapToReviewIdToLike,
+        return jdbcTemplate.query(String.format(sql, inSql), new LikesByReviewIdExtractor(reviewsIds.size()),
                 reviewsIds.toArray());
 
     }
 
+    @Override
+    public Optional<VoteResult> addLikeOrDislike(Long reviewId, Long userId, boolean isPositive) {
+        String sql =
+                "with target as (" + TARGET_REVIEW_SQL + "), " +
+                        "existing as (" + EXISTING_VOTE_SQL + "), " +
+                        "removed as (delete from likes l " +
+                        "using existing e " +
+                        "where l.like_id = e.like_id " +
+                        "and e.is_positive <> :isPositive " +
+                        "returning l.is_positive), " +
+                        "inserted as (insert into likes (user_id, review_id, is_positive) " +
+                        "select :userId, t.review_id, :isPositive " +
+                        "from target t " +
+                        "where t.author_id <> :userId " +
+                        "and not exists (select 1 from existing) " +
+                        "on conflict (user_id, review_id) do nothing " +
+                        "returning is_positive), " +
+                        UPDATE_COUNTERS_SQL;
+
+        return namedJdbcTemplate.query(sql, voteParams(reviewId, userId, isPositive), this::makeVoteResult);
+    }
+
+    @Override
+    public Optional<VoteResult> deleteLikeOrDislike(Long reviewId, Long userId, boolean isPositive) {
+        String sql =
+                "with target as (" + TARGET_REVIEW_SQL + "), " +
+                        "existing as (" + EXISTING_VOTE_SQL + "), " +
+                        "removed as (delete from likes l " +
+                        "using existing e, target t " +
+                        "where l.like_id = e.like_id " +
+                        "and e.is_positive = :isPositive " +
+                        "and t.author_id <> :userId " +
+                        "returning l.is_positive), " +
+                        "inserted as (select true as is_positive where false), " +
+                        UPDATE_COUNTERS_SQL;
+
+        return namedJdbcTemplate.query(sql, voteParams(reviewId, userId, isPositive), this::makeVoteResult);
+    }
+
+    @Override
+    public Optional<ReviewVoteState> getReviewWithUserVote(Long reviewId, Long userId) {
+        String sql =
+                "select r.review_id, r.title, r.content, r.username, r.mark, r.event_id, r.created_at, " +
+                        "r.updated_at, r.number_of_likes, r.number_of_dislikes, r.author_id, " +
+                        "l.is_positive AS user_vote " +
+                        "from reviews r " +
+                        "left join likes l on l.review_id = r.review_id and l.user_id = ? " +
+                        "where r.review_id = ?";
+
+        return jdbcTemplate.query(sql, this::makeReviewVoteState, userId, reviewId);
+    }
+
+    @Override
+    public void saveVotes(List<PendingVote> votes, int batchSize) {
+        String upsertSql =
+                "insert into likes (user_id, review_id, is_positive) " +
+                        "select ?, r.review_id, ? " +
+                        "from reviews r " +
+                        "where r.review_id = ? " +
+                        "on conflict (user_id, review_id) do update " +
+                        "set is_positive = excluded.is_positive";
+        String deleteSql =
+                "delete from likes " +
+                        "where user_id = ? " +
+                        "and review_id = ?";
+
+        final List<PendingVote> upserts = votes.stream()
+                .filter(vote -> vote.isPositive() != null)
+                .toList();
+        final List<PendingVote> deletes = votes.stream()
+                .filter(vote -> vote.isPositive() == null)
+                .toList();
+
+        jdbcTemplate.batchUpdate(upsertSql, upserts, batchSize, (ps, vote) -> {
+            ps.setLong(1, vote.userId());
+            ps.setBoolean(2, vote.isPositive());
+            ps.setLong(3, vote.reviewId());
+        });
+        jdbcTemplate.batchUpdate(deleteSql, deletes, batchSize, (ps, vote) -> {
+            ps.setLong(1, vote.userId());
+            ps.setLong(2, vote.reviewId());
+        });
+    }
+
+    @Override
+    public List<CountersChange> recalculateLikesAndDislikesCounters(Collection<Long> reviewsIds) {
+        if (reviewsIds.isEmpty()) {
+            return List.of();
+        }
+        String inSql = String.join(",", Collections.nCopies(reviewsIds.size(), "?"));
+
+        String sql =
+                "with counts as (select r.review_id, " +
+                        "COUNT(CASE WHEN l.is_positive = TRUE THEN 1 END) AS likes, " +
+                        "COUNT(CASE WHEN l.is_positive = FALSE THEN 1 END) AS dislikes " +
+                        "from reviews r " +
+                        "left join likes l on l.review_id = r.review_id " +
+                        "where r.review_id IN (%1$s) " +
+                        "group by r.review_id), " +
+                        "previous as (select review_id, number_of_likes, number_of_dislikes " +
+                        "from reviews " +
+                        "where review_id IN (%1$s)), " +
+                        "updated as (update reviews r " +
+                        "set number_of_likes = c.likes, " +
+                        "number_of_dislikes = c.dislikes, " +
+                        "vote_version = nextval('review_versions_seq') " +
+                        "from counts c " +
+                        "where r.review_id = c.review_id " +
+                        "and (r.number_of_likes <> c.likes OR r.number_of_dislikes <> c.dislikes) " +
+                        "returning r.review_id, r.title, r.content, r.username, r.mark, r.event_id, r.created_at, " +
+                        "r.updated_at, r.number_of_likes, r.number_of_dislikes) " +
+                        "select u.*, " +
+                        "u.number_of_likes - p.number_of_likes AS likes_delta, " +
+                        "u.number_of_dislikes - p.number_of_dislikes AS dislikes_delta " +
+                        "from updated u " +
+                        "join previous p on p.review_id = u.review_id";
+
+        final List<Long> params = new ArrayList<>(reviewsIds);
+        params.addAll(reviewsIds);
+        return jdbcTemplate.query(String.format(sql, inSql), this::mapToCountersChange, params.toArray());
+    }
+
+    @Override
+    public List<Long> lockReviewsIdsAfter(Long reviewId, int limit) {
+        String sql =
+                "select review_id " +
+                        "from reviews " +
+                        "where review_id > ? " +
+                        "order by review_id " +
+                        "limit ? " +
+                        "for update";
+
+        return jdbcTemplate.queryForList(sql, Long.class, reviewId, limit);
+    }
+
     private Optional<LikeDto> makeLikeDto(ResultSet resultSet) throws SQLException {
         if (!resultSet.next()) {
             return Optional.empty();
         }
-        return Optional.of(LikeDto.builder()
-                .reviewId(resultSet.getLong("review_id"))
-                .numbersOfLikes(resultSet.getLong("likes"))
-                .numbersOfDislikes(resultSet.getLong("dislikes"))
-                .build());
+        return Optional.of(LikeDtoRowMapper.INSTANCE.mapRow(resultSet, resultSet.getRow()));
+    }
+
+    private SqlParameterSource voteParams(Long reviewId, Long userId, boolean isPositive) {
+        return new MapSqlParameterSource()
+                .addValue("reviewId", reviewId)
+                .addValue("userId", userId)
+                .addValue("isPositive", isPositive);
+    }
+
+    private Optional<VoteResult> makeVoteResult(ResultSet resultSet) throws SQLException {
+        if (!resultSet.next()) {
+            return Optional.empty();
+        }
+        return Optional.of(new VoteResult(
+                ReviewDtoRowMapper.INSTANCE.mapRow(resultSet, resultSet.getRow()),
+                resultSet.getLong("author_id"),
+                resultSet.getBoolean("had_vote"),
+                resultSet.getLong("likes_delta"),
+                resultSet.getLong("dislikes_delta")));
     }
 
-    private Map<Long, LikeDto> mapToReviewIdToLike(ResultSet resultSet) throws SQLException {
-        Map<Long, LikeDto> result = new HashMap<>();
-        while (resultSet.next()) {
-            LikeDto likeDto = LikeDto.builder()
-                    .reviewId(resultSet.getLong("review_id"))
-                    .numbersOfLikes(resultSet.getLong("likes"))
-                    .numbersOfDislikes(resultSet.getLong("dislikes"))
-                    .build();
-            result.put(likeDto.reviewId(), likeDto);
+    private Optional<ReviewVoteState> makeReviewVoteState(ResultSet resultSet) throws SQLException {
+        if (!resultSet.next()) {
+            return Optional.empty();
         }
+        return Optional.of(new ReviewVoteState(
+                ReviewDtoRowMapper.INSTANCE.mapRow(resultSet, resultSet.getRow()),
+                resultSet.getLong("author_id"),
+                resultSet.getObject("user_vote", Boolean.class)));
+    }
 
-        return result;
+    private CountersChange mapToCountersChange(ResultSet resultSet, int rowNum) throws SQLException {
+        return new CountersChange(
+                ReviewDtoRowMapper.INSTANCE.mapRow(resultSet, rowNum),
+                resultSet.getLong("likes_delta"),
+                resultSet.getLong("dislikes_delta"));
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,21 @@
+package ru.mssecondteam.reviewservice.repository.like;
+
+import org.springframework.jdbc.core.RowMapper;
+import ru.mssecondteam.reviewservice.dto.LikeDto;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+public class LikeDtoRowMapper implements RowMapper<LikeDto> {
+
+    public static final LikeDtoRowMapper INSTANCE = new LikeDtoRowMapper();
+
+    @Override
+    public LikeDto mapRow(ResultSet rs, int rowNum) throws SQLException {
+        return LikeDto.builder()
+                .reviewId(rs.getLong("review_id"))
+                .numbersOfLikes(rs.getLong("likes"))
+                .numbersOfDislikes(rs.getLong("dislikes"))
+                .build();
+    }
+}
@@ -0,0 +1,28 @@
+package ru.mssecondteam.reviewservice.repository.like;
+
+import org.springframework.jdbc.core.ResultSetExtractor;
+import ru.mssecondteam.reviewservice.dto.LikeDto;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.Map;
+
+public class LikesByReviewIdExtractor implements ResultSetExtractor<Map<Long, LikeDto>> {
+
+    private final int expectedSize;
+
+    public LikesByReviewIdExtractor(int expectedSize) {
+        this.expectedSize = expectedSize;
+    }
+
+    @Override
+    public Map<Long, LikeDto> extractData(ResultSet rs) throws SQLException {
+        final Map<Long, LikeDto> result = HashMap.newHashMap(expectedSize);
+        while (rs.next()) {
+            final LikeDto likeDto = LikeDtoRowMapper.INSTANCE.mapRow(rs, rs.getRow());
+            result.put(likeDto.reviewId(), likeDto);
+        }
+        return result;
+    }
+}
@@ -0,0 +1,30 @@
+package ru.mssecondteam.reviewservice.repository.stats;
+
+import ru.mssecondteam.reviewservice.dto.EventReviewStats;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+public interface EventReviewStatsRepository {
+
+    EventReviewStats getEventReviewStats(Long eventId);
+
+    Map<Long, EventReviewStats> getEventsReviewStats(Collection<Long> eventIds);
+
+    void addReview(Long eventId, int mark, int minPositiveMark);
+
+    void addReviews(Long eventId, List<Integer> marks, int minPositiveMark);
+
+    void updateReviewMark(Long reviewId, int oldMark, int newMark, int minPositiveMark, int minNumberOfLikes);
+
+    void removeReview(Long reviewId, int minPositiveMark, int minNumberOfLikes);
+
+    void updateEligibleReviews(Long eventId, int mark, int delta);
+
+    boolean isEmpty();
+
+    int rebuild(int minPositiveMark, int minNumberOfLikes);
+
+    List<Long> findInconsistentEventIds(int minPositiveMark, int minNumberOfLikes);
+}
@@ -0,0 +1,218 @@
+package ru.mssecondteam.reviewservice.repository.stats;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Repository;
+import ru.mssecondteam.reviewservice.dto.EventReviewStats;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static ru.mssecondteam.reviewservice.repository.stats.StatsRepositoryImpl.ELIGIBLE_REVIEW_CONDITION;
+
+@Repository
+@RequiredArgsConstructor
+public class EventReviewStatsRepositoryImpl implements EventReviewStatsRepository {
+
+    private static final String EVENT_REVIEW_STATS_SQL = "SELECT event_id, " +
+            "CASE WHEN eligible_reviews > 0 THEN 1.0 * eligible_marks_sum / eligible_reviews END AS average_mark, " +
+            "total_reviews AS total_marks, " +
+            "100.0 * positive_reviews / total_reviews AS positive_mark_percentage, " +
+            "100.0 * negative_reviews / total_reviews AS negative_mark_percentage " +
+            "FROM event_review_stats ";
+
+    private static final String AGGREGATE_EVENT_REVIEWS_SQL = "SELECT r.event_id, " +
+            "COUNT(*) AS total_reviews, " +
+            "COUNT(CASE WHEN r.mark >= :minPositiveMark THEN 1 END) AS positive_reviews, " +
+            "COUNT(CASE WHEN r.mark < :minPositiveMark THEN 1 END) AS negative_reviews, " +
+            "COUNT(CASE WHEN " + ELIGIBLE_REVIEW_CONDITION + " THEN 1 END) AS eligible_reviews, " +
+            "COALESCE(SUM(CASE WHEN " + ELIGIBLE_REVIEW_CONDITION + " THEN r.mark END), 0) AS eligible_marks_sum " +
+            "FROM reviews r " +
+            "GROUP BY r.event_id";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    @Override
+    public EventReviewStats getEventReviewStats(Long eventId) {
+        SqlParameterSource namedParam = new MapSqlParameterSource()
+                .addValue("eventId", eventId);
+
+        final String sql = EVENT_REVIEW_STATS_SQL +
+                "WHERE event_id = :eventId " +
+                "AND total_reviews > 0";
+        return jdbcTemplate.query(sql, namedParam, this::mapToEventReviewStats);
+    }
+
+    @Override
+    public Map<Long, EventReviewStats> getEventsReviewStats(Collection<Long> eventIds) {
+        if (eventIds.isEmpty()) {
+            return new HashMap<>();
+        }
+        final Long[] ids = eventIds.toArray(Long[]::new);
+
+        final String sql = EVENT_REVIEW_STATS_SQL +
+                "WHERE event_id = ANY(?) " +
+                "AND total_reviews > 0";
+        return jdbcTemplate.getJdbcTemplate().query(sql,
+                ps -> ps.setArray(1, ps.getConnection().createArrayOf("bigint", ids)),
+                rs -> {
+                    final Map<Long, EventReviewStats> eventsStats = new HashMap<>();
+                    while (rs.next()) {
+                        final EventReviewStats eventStats = mapRowToEventReviewStats(rs);
+                        eventsStats.put(eventStats.eventId(), eventStats);
+                    }
+                    return eventsStats;
+                });
+    }
+
+    @Override
+    public void addReview(Long eventId, int mark, int minPositiveMark) {
+        addReviews(eventId, List.of(mark), minPositiveMark);
+    }
+
+    @Override
+    public void addReviews(Long eventId, List<Integer> marks, int minPositiveMark) {
+        final long positiveReviews = marks.stream()
+                .filter(mark -> mark >= minPositiveMark)
+                .count();
+        SqlParameterSource namedParams = new MapSqlParameterSource()
+                .addValue("eventId", eventId)
+                .addValue("total", marks.size())
+                .addValue("marksSum", marks.stream().mapToLong(Integer::longValue).sum())
+                .addValue("positive", positiveReviews)
+                .addValue("negative", marks.size() - positiveReviews);
+
+        final String sql = "INSERT INTO event_review_stats (event_id, total_reviews, positive_reviews, negative_reviews, " +
+                "eligible_reviews, eligible_marks_sum) " +
+                "VALUES (:eventId, :total, :positive, :negative, :total, :marksSum) " +
+                "ON CONFLICT (event_id) DO UPDATE " +
+                "SET total_reviews = event_review_stats.total_reviews + EXCLUDED.total_reviews, " +
+                "positive_reviews = event_review_stats.positive_reviews + EXCLUDED.positive_reviews, " +
+                "negative_reviews = event_review_stats.negative_reviews + EXCLUDED.negative_reviews, " +
+                "eligible_reviews = event_review_stats.eligible_reviews + EXCLUDED.eligible_reviews, " +
+                "eligible_marks_sum = event_review_stats.eligible_marks_sum + EXCLUDED.eligible_marks_sum";
+        jdbcTemplate.update(sql, namedParams);
+    }
+
+    @Override
+    public void updateReviewMark(Long reviewId, int oldMark, int newMark, int minPositiveMark, int minNumberOfLikes) {
+        SqlParameterSource namedParams = new MapSqlParameterSource()
+                .addValue("reviewId", reviewId)
+                .addValue("oldMark", oldMark)
+                .addValue("newMark", newMark)
+                .addValue("minPositiveMark", minPositiveMark)
+                .addValue("minNumberOfLikes", minNumberOfLikes);
+
+        final String sql = "UPDATE event_review_stats s " +
+                "SET positive_reviews = s.positive_reviews " +
+                "- CASE WHEN :oldMark >= :minPositiveMark THEN 1 ELSE 0 END " +
+                "+ CASE WHEN :newMark >= :minPositiveMark THEN 1 ELSE 0 END, " +
+                "negative_reviews = s.negative_reviews " +
+                "- CASE WHEN :oldMark < :minPositiveMark THEN 1 ELSE 0 END " +
+                "+ CASE WHEN :newMark < :minPositiveMark THEN 1 ELSE 0 END, " +
+                "eligible_marks_sum = s.eligible_marks_sum " +
+                "+ CASE WHEN " + ELIGIBLE_REVIEW_CONDITION + " THEN :newMark - :oldMark ELSE 0 END " +
+                "FROM reviews r " +
+                "WHERE r.review_id = :reviewId " +
+                "AND s.event_id = r.event_id";
+        jdbcTemplate.update(sql, namedParams);
+    }
+
+    @Override
+    public void removeReview(Long reviewId, int minPositiveMark, int minNumberOfLikes) {
+        SqlParameterSource namedParams = new MapSqlParameterSource()
+                .addValue("reviewId", reviewId)
+                .addValue("minPositiveMark", minPositiveMark)
+                .addValue("minNumberOfLikes", minNumberOfLikes);
+
+        final String sql = "UPDATE event_review_stats s " +
+                "SET total_reviews = s.total_reviews - 1, " +
+                "positive_reviews = s.positive_reviews - CASE WHEN r.mark >= :minPositiveMark THEN 1 ELSE 0 END, " +
+                "negative_reviews = s.negative_reviews - CASE WHEN r.mark < :minPositiveMark THEN 1 ELSE 0 END, " +
+                "eligible_reviews = s.eligible_reviews - CASE WHEN " + ELIGIBLE_REVIEW_CONDITION + " THEN 1 ELSE 0 END, " +
+                "eligible_marks_sum = s.eligible_marks_sum - CASE WHEN " + ELIGIBLE_REVIEW_CONDITION + " THEN r.mark ELSE 0 END " +
+                "FROM reviews r " +
+                "WHERE r.review_id = :reviewId " +
+                "AND s.event_id = r.event_id";
+        jdbcTemplate.update(sql, namedParams);
+    }
+
+    @Override
+    public void updateEligibleReviews(Long eventId, int mark, int delta) {
+        SqlParameterSource namedParams = new MapSqlParameterSource()
+                .addValue("eventId", eventId)
+                .addValue("mark", mark)
+                .addValue("delta", delta);
+
+        final String sql = "UPDATE event_review_stats " +
+                "SET eligible_reviews = eligible_reviews + :delta, " +
+                "eligible_marks_sum = eligible_marks_sum + :delta * :mark " +
+                "WHERE event_id = :eventId";
+        jdbcTemplate.update(sql, namedParams);
+    }
+
+    @Override
+    public boolean isEmpty() {
+        final String sql = "SELECT NOT EXISTS (SELECT 1 FROM event_review_stats)";
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject(sql, new MapSqlParameterSource(), Boolean.class));
+    }
+
+    @Override
+    public int rebuild(int minPositiveMark, int minNumberOfLikes) {
+        SqlParameterSource namedParams = new MapSqlParameterSource()
+                .addValue("minPositiveMark", minPositiveMark)
+                .addValue("minNumberOfLikes", minNumberOfLikes);
+
+        jdbcTemplate.update("LOCK TABLE event_review_stats IN EXCLUSIVE MODE", namedParams);
+        jdbcTemplate.update("DELETE FROM event_review_stats", namedParams);
+        final String sql = "INSERT INTO event_review_stats (event_id, total_reviews, positive_reviews, negative_reviews, " +
+                "eligible_reviews, eligible_marks_sum) " +
+                AGGREGATE_EVENT_REVIEWS_SQL;
+        return jdbcTemplate.update(sql, namedParams);
+    }
+
+    @Override
+    public List<Long> findInconsistentEventIds(int minPositiveMark, int minNumberOfLikes) {
+        SqlParameterSource namedParams = new MapSqlParameterSource()
+                .addValue("minPositiveMark", minPositiveMark)
+                .addValue("minNumberOfLikes", minNumberOfLikes);
+
+        final String sql = "WITH actual AS (" + AGGREGATE_EVENT_REVIEWS_SQL + "), " +
+                "stored AS (SELECT * FROM event_review_stats WHERE total_reviews > 0) " +
+                "SELECT COALESCE(a.event_id, s.event_id) AS event_id " +
+                "FROM actual a " +
+                "FULL JOIN stored s ON s.event_id = a.event_id " +
+                "WHERE a.event_id IS NULL " +
+                "OR s.event_id IS NULL " +
+                "OR a.total_reviews <> s.total_reviews " +
+                "OR a.positive_reviews <> s.positive_reviews " +
+                "OR a.negative_reviews <> s.negative_reviews " +
+                "OR a.eligible_reviews <> s.eligible_reviews " +
+                "OR a.eligible_marks_sum <> s.eligible_marks_sum " +
+                "ORDER BY 1";
+        return jdbcTemplate.queryForList(sql, namedParams, Long.class);
+    }
+
+    private EventReviewStats mapToEventReviewStats(ResultSet rs) throws SQLException {
+        if (rs.next()) {
+            return mapRowToEventReviewStats(rs);
+        }
+        return null;
+    }
+
+    private EventReviewStats mapRowToEventReviewStats(ResultSet rs) throws SQLException {
+        return EventReviewStats.builder()
+                .eventId(rs.getLong("event_id"))
+                .avgMark(rs.getFloat("average_mark"))
+                .totalNumberOfReviews(rs.getLong("total_marks"))
+                .positiveReviewsPercentage(rs.getFloat("positive_mark_percentage"))
+                .negativeReviewsPercentage(rs.getFloat("negative_mark_percentage"))
+                .build();
+    }
+}
@@ -0,0 +1,23 @@
+package ru.mssecondteam.reviewservice.repository.version;
+
+import ru.mssecondteam.reviewservice.model.EventReviewsVersion;
+import ru.mssecondteam.reviewservice.model.ReviewVersion;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+public interface ReviewVersionRepository {
+
+    List<ReviewVersion> getReviewsVersions(Collection<Long> reviewsIds);
+
+    long getEventVersion(Long eventId);
+
+    EventReviewsVersion getEventReviewsVersion(Long eventId);
+
+    Map<Long, Long> getEventsVersions(Collection<Long> eventIds);
+
+    void incrementEventsVersions(Collection<Long> eventIds);
+
+    void incrementAllEventsVersions();
+}
@@ -0,0 +1,113 @@
+package ru.mssecondteam.reviewservice.repository.version;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+import ru.mssecondteam.reviewservice.model.EventReviewsVersion;
+import ru.mssecondteam.reviewservice.model.ReviewVersion;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@Repository
+@RequiredArgsConstructor
+public class ReviewVersionRepositoryImpl implements ReviewVersionRepository {
+
+    private static final String REVIEW_VERSION_SQL = "SELECT review_id, updated_at, vote_version " +
+            "FROM reviews ";
+
+    private static final String EVENT_VERSION_SQL = "SELECT event_id, version " +
+            "FROM event_review_versions ";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    @Override
+    public List<ReviewVersion> getReviewsVersions(Collection<Long> reviewsIds) {
+        if (reviewsIds.isEmpty()) {
+            return List.of();
+        }
+        final Long[] ids = reviewsIds.toArray(Long[]::new);
+
+        final String sql = REVIEW_VERSION_SQL +
+                "WHERE review_id = ANY(?) " +
+                "ORDER BY review_id";
+        return jdbcTemplate.getJdbcTemplate().query(sql,
+                ps -> ps.setArray(1, ps.getConnection().createArrayOf("bigint", ids)),
+                this::mapRowToReviewVersion);
+    }
+
+    @Override
+    public long getEventVersion(Long eventId) {
+        final String sql = EVENT_VERSION_SQL +
+                "WHERE event_id = :eventId";
+        return jdbcTemplate.query(sql, new MapSqlParameterSource("eventId", eventId),
+                        (rs, rowNum) -> rs.getLong("version"))
+                .stream()
+                .findFirst()
+                .orElse(0L);
+    }
+
+    @Override
+    public EventReviewsVersion getEventReviewsVersion(Long eventId) {
+        final String sql = "SELECT COALESCE((SELECT version FROM event_review_versions WHERE event_id = :eventId), 0) " +
+                "AS version, " +
+                "COALESCE((SELECT MAX(vote_version) FROM reviews WHERE event_id = :eventId), 0) AS vote_version";
+        return jdbcTemplate.queryForObject(sql, new MapSqlParameterSource("eventId", eventId),
+                (rs, rowNum) -> new EventReviewsVersion(rs.getLong("version"), rs.getLong("vote_version")));
+    }
+
+    @Override
+    public Map<Long, Long> getEventsVersions(Collection<Long> eventIds) {
+        if (eventIds.isEmpty()) {
+            return new HashMap<>();
+        }
+        final Long[] ids = eventIds.toArray(Long[]::new);
+
+        final String sql = EVENT_VERSION_SQL +
+                "WHERE event_id = ANY(?)";
+        final Map<Long, Long> versions = HashMap.newHashMap(ids.length);
+        jdbcTemplate.getJdbcTemplate().query(sql,
+                ps -> ps.setArray(1, ps.getConnection().createArrayOf("bigint", ids)),
+                (ResultSet rs) -> {
+                    versions.put(rs.getLong("event_id"), rs.getLong("version"));
+                });
+        return versions;
+    }
+
+    @Override
+    public void incrementEventsVersions(Collection<Long> eventIds) {
+        if (eventIds.isEmpty()) {
+            return;
+        }
+        final Long[] ids = eventIds.stream()
+                .distinct()
+                .sorted()
+                .toArray(Long[]::new);
+
+        final String sql = "INSERT INTO event_review_versions (event_id, version) " +
+                "SELECT e.event_id, nextval('review_versions_seq') " +
+                "FROM unnest(?::bigint[]) AS e(event_id) " +
+                "ON CONFLICT (event_id) DO UPDATE " +
+                "SET version = EXCLUDED.version";
+        jdbcTemplate.getJdbcTemplate().update(sql,
+                ps -> ps.setArray(1, ps.getConnection().createArrayOf("bigint", ids)));
+    }
+
+    @Override
+    public void incrementAllEventsVersions() {
+        final String sql = "UPDATE event_review_versions " +
+                "SET version = nextval('review_versions_seq')";
+        jdbcTemplate.getJdbcTemplate().update(sql);
+    }
+
+    private ReviewVersion mapRowToReviewVersion(ResultSet rs, int rowNum) throws SQLException {
+        return new ReviewVersion(rs.getLong("review_id"),
+                rs.getTimestamp("updated_at").toLocalDateTime(),
+                rs.getLong("vote_version"));
+    }
+}
@@ -1,15 +1,19 @@
 package ru.mssecondteam.reviewservice.service;
 
+import com.github.benmanes.caffeine.cache.Cache;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import ru.mssecondteam.reviewservice.client.event.EventClient;
 import ru.mssecondteam.reviewservice.dto.event.EventDto;
 import ru.mssecondteam.reviewservice.dto.event.TeamMemberDto;
 import ru.mssecondteam.reviewservice.exception.NotAuthorizedException;
+import ru.mssecondteam.reviewservice.exception.NotFoundException;
 import ru.mssecondteam.reviewservice.exception.ValidationException;
 
 import java.time.LocalDateTime;
+import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 
 @Service
@@ -18,21 +22,70 @@ public class EventServiceHelper {
 
     private final EventClient eventClient;
 
+    private final RemoteCallExecutor remoteCallExecutor;
+
+    private final Cache<Long, EventDto> passedEventsCache;
+
+    private final Cache<Long, Set<Long>> eventTeamMembersCache;
+
+    private final Cache<Long, Boolean> missingEventsCache;
+
     public void checkThatEventHasPassedAndUserIsEventTeamMembers(Long userId, Long eventId) {
-        final EventDto event = eventClient.getEventById(userId, eventId).getBody();
+        RemoteCallExecutor.await(checkThatEventHasPassedAndUserIsEventTeamMembersAsync(userId, eventId));
+    }
+
+    public CompletableFuture<Void> checkThatEventHasPassedAndUserIsEventTeamMembersAsync(Long userId, Long eventId) {
+        if (missingEventsCache.getIfPresent(eventId) != null) {
+            return CompletableFuture.failedFuture(new NotFoundException("Event was not found"));
+        }
+        final CompletableFuture<EventDto> event = getPassedEvent(userId, eventId);
+        final CompletableFuture<Set<Long>> teamMembersIds = getTeamMembersIds(userId, eventId);
+        return RemoteCallExecutor.allInOrder(event, teamMembersIds)
+                .thenRun(() -> {
+                    eventTeamMembersCache.put(eventId, teamMembersIds.join());
+                    checkIfUserIsATeamMember(event.join(), teamMembersIds.join(), userId, eventId);
+                });
+    }
+
+    private CompletableFuture<EventDto> getPassedEvent(Long userId, Long eventId) {
+        final EventDto cachedEvent = passedEventsCache.getIfPresent(eventId);
+        if (cachedEvent != null) {
+            return CompletableFuture.completedFuture(cachedEvent);
+        }
+        return remoteCallExecutor.supply(() -> {
+            final EventDto event = fetchPassedEvent(userId, eventId);
+            passedEventsCache.put(eventId, event);
+            return event;
+        });
+    }
+
+    private EventDto fetchPassedEvent(Long userId, Long eventId) {
+        final EventDto event;
+        try {
+            event = eventClient.getEventById(userId, eventId).getBody();
+        } catch (NotFoundException e) {
+            missingEventsCache.put(eventId, Boolean.TRUE);
+            throw e;
+        }
         if (event.endDateTime().isAfter(LocalDateTime.now())) {
             throw new ValidationException(String.format("The event with id = %d has not yet passed", eventId));
         }
-        final Set<Long> eventTeamMembersId = eventClient.getTeamsByEventId(userId, eventId).getBody().stream()
-                .map(TeamMemberDto::userId)
-                .collect(Collectors.toSet());
-        eventTeamMembersId.add(event.ownerId());
+        return event;
+    }
 
-        checkIfUserIsATeamMember(eventTeamMembersId, userId, eventId);
+    private CompletableFuture<Set<Long>> getTeamMembersIds(Long userId, Long eventId) {
+        final Set<Long> cachedTeamMembersIds = eventTeamMembersCache.getIfPresent(eventId);
+        if (cachedTeamMembersIds != null) {
+            return CompletableFuture.completedFuture(cachedTeamMembersIds);
+        }
+        return remoteCallExecutor.supply(() -> eventClient.getTeamsByEventId(userId, eventId).getBody().stream()
+                .map(TeamMemberDto::userId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toUnmodifiableSet()));
     }
 
-    private void checkIfUserIsATeamMember(Set<Long> teamMembersIds, Long userId, Long eventId) {
-        if (!teamMembersIds.contains(userId)) {
+    private void checkIfUserIsATeamMember(EventDto event, Set<Long> teamMembersIds, Long userId, Long eventId) {
+        if (!userId.equals(event.ownerId()) && !teamMembersIds.contains(userId)) {
             throw new NotAuthorizedException(String.format("User is with id '%s' not a team member for event with id '%s'",
                     userId, eventId));
         }
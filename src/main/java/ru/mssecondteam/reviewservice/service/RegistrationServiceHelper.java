@@ -1,7 +1,7 @@
 package ru.mssecondteam.reviewservice.service;
 
+import com.github.benmanes.caffeine.cache.Cache;
 import lombok.RequiredArgsConstructor;
-import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 import ru.mssecondteam.reviewservice.client.registration.RegistrationClient;
 import ru.mssecondteam.reviewservice.dto.registration.RegistrationResponseDto;
@@ -9,25 +9,49 @@ import ru.mssecondteam.reviewservice.dto.registration.RegistrationStatus;
 import ru.mssecondteam.reviewservice.exception.ValidationException;
 
 import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class RegistrationServiceHelper {
     private final RegistrationClient registrationClient;
 
+    private final Cache<Long, Set<String>> approvedUsernamesCache;
+
     public void checkUserApprovedForEvent(Long eventId, String userName) {
-        ResponseEntity<List<RegistrationResponseDto>> response = registrationClient.searchRegistrations(
-                List.of(RegistrationStatus.APPROVED), eventId);
-        List<RegistrationResponseDto> registrations = response.getBody();
-        if (registrations.isEmpty()) {
+        checkUserApprovedForEvent(eventId, userName, getApprovedUsernames(eventId));
+    }
+
+    public Set<String> getApprovedUsernames(Long eventId) {
+        final Set<String> cachedApprovedUsernames = approvedUsernamesCache.getIfPresent(eventId);
+        if (cachedApprovedUsernames != null) {
+            return cachedApprovedUsernames;
+        }
+        final Set<String> approvedUsernames = fetchApprovedUsernames(eventId);
+        approvedUsernamesCache.put(eventId, approvedUsernames);
+        return approvedUsernames;
+    }
+
+    public void checkUserApprovedForEvent(Long eventId, String userName, Set<String> approvedUsernames) {
+        if (approvedUsernames.isEmpty()) {
             throw new ValidationException(String.format("No registrations found for event with id = %d", eventId));
         }
-        registrations.stream()
-                .filter(registration -> registration.username().equals(userName))
-                .findFirst()
-                .orElseThrow(() -> new ValidationException(String.format(
-                        "User %s not approved by event with id = %d", userName, eventId
-                )));
+        if (!approvedUsernames.contains(userName)) {
+            throw new ValidationException(String.format(
+                    "User %s not approved by event with id = %d", userName, eventId
+            ));
+        }
+    }
+
+    private Set<String> fetchApprovedUsernames(Long eventId) {
+        final List<RegistrationResponseDto> registrations = registrationClient.searchRegistrations(
+                List.of(RegistrationStatus.APPROVED), eventId).getBody();
+        return registrations.stream()
+                .map(RegistrationResponseDto::username)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toUnmodifiableSet());
     }
 
 }
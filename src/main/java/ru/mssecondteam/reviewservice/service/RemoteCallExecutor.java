@@ -0,0 +1,86 @@
+package ru.mssecondteam.reviewservice.service;
+
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+@Component
+public class RemoteCallExecutor {
+
+    private final ExecutorService executor;
+
+    public RemoteCallExecutor(@Value("${app.remote-calls.pool-size}") int poolSize,
+                              @Value("${app.remote-calls.queue-capacity}") int queueCapacity,
+                              @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreadsEnabled) {
+        if (virtualThreadsEnabled) {
+            this.executor = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("remote-call-", 0).factory());
+            return;
+        }
+        final ThreadPoolExecutor threadPoolExecutor = new ThreadPoolExecutor(poolSize, poolSize, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), new CustomizableThreadFactory("remote-call-"),
+                new ThreadPoolExecutor.CallerRunsPolicy());
+        threadPoolExecutor.allowCoreThreadTimeOut(true);
+        this.executor = threadPoolExecutor;
+    }
+
+    public <T> CompletableFuture<T> supply(Supplier<T> call) {
+        return CompletableFuture.supplyAsync(call, executor);
+    }
+
+    public CompletableFuture<Void> run(Runnable call) {
+        return CompletableFuture.runAsync(call, executor);
+    }
+
+    public static CompletableFuture<Void> allInOrder(CompletableFuture<?>... futures) {
+        final List<CompletableFuture<?>> orderedFutures = List.of(futures);
+        final CompletableFuture<Void> result = new CompletableFuture<>();
+        final Runnable completeIfDecided = () -> {
+            for (CompletableFuture<?> future : orderedFutures) {
+                if (!future.isDone()) {
+                    return;
+                }
+                if (future.isCompletedExceptionally()) {
+                    result.completeExceptionally(future.exceptionNow());
+                    return;
+                }
+            }
+            result.complete(null);
+        };
+        orderedFutures.forEach(future -> future.whenComplete((value, e) -> completeIfDecided.run()));
+        return result;
+    }
+
+    public static <T> T await(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            Throwable cause = e;
+            while (cause instanceof CompletionException && cause.getCause() != null) {
+                cause = cause.getCause();
+            }
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
@@ -1,8 +1,11 @@
 package ru.mssecondteam.reviewservice.service;
 
+import ru.mssecondteam.reviewservice.dto.ReviewDto;
 import ru.mssecondteam.reviewservice.dto.ReviewUpdateRequest;
+import ru.mssecondteam.reviewservice.dto.TopReviewsDto;
 import ru.mssecondteam.reviewservice.model.Review;
-import ru.mssecondteam.reviewservice.model.TopReviews;
+import ru.mssecondteam.reviewservice.model.ReviewCreationResult;
+import ru.mssecondteam.reviewservice.model.ReviewCursor;
 
 import java.util.List;
 
@@ -10,17 +13,29 @@ public interface ReviewService {
 
     Review createReview(Review review, Long userId);
 
+    List<ReviewCreationResult> createReviews(List<Review> reviews, Long userId);
+
     Review updateReview(Long reviewId, ReviewUpdateRequest updateRequest, Long userId);
 
     Review findReviewById(Long reviewId, Long userId);
 
-    List<Review> findReviewsByEventId(Long eventId, Integer page, Integer size, Long userId);
+    ReviewDto findReviewWithLikesById(Long reviewId, Long userId);
+
+    ReviewDto findReviewWithLikesById(Long reviewId, Long userId, String version);
+
+    List<Review> findReviewsByIds(List<Long> reviewsIds, Long userId);
+
+    List<ReviewDto> findReviewsByEventId(Long eventId, Integer page, Integer size, Long userId);
+
+    List<ReviewDto> findReviewsByEventIdAfter(Long eventId, ReviewCursor cursor, Integer size, Long userId);
 
     void deleteReviewById(Long reviewId, Long userId);
 
-    Review addLikeOrDislike(Long reviewId, Long userId, Boolean isPositive);
+    ReviewDto addLikeOrDislike(Long reviewId, Long userId, Boolean isPositive);
+
+    ReviewDto deleteLikeOrDislike(Long reviewId, Long userId, Boolean isPositive);
 
-    Review deleteLikeOrDislike(Long reviewId, Long userId, Boolean isPositive);
+    TopReviewsDto getTopReviews(Long eventId);
 
-    TopReviews getTopReviews(Long eventId);
+    TopReviewsDto getTopReviews(Long eventId, String version);
 }
\ No newline at end of file
@@ -3,22 +3,36 @@ package ru.mssecondteam.reviewservice.service;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import ru.mssecondteam.reviewservice.dto.ReviewDto;
 import ru.mssecondteam.reviewservice.dto.ReviewUpdateRequest;
+import ru.mssecondteam.reviewservice.dto.TopReviewsDto;
 import ru.mssecondteam.reviewservice.exception.NotAuthorizedException;
 import ru.mssecondteam.reviewservice.exception.NotFoundException;
+import ru.mssecondteam.reviewservice.exception.ValidationException;
 import ru.mssecondteam.reviewservice.mapper.ReviewMapper;
 import ru.mssecondteam.reviewservice.model.Review;
-import ru.mssecondteam.reviewservice.model.TopReviews;
+import ru.mssecondteam.reviewservice.model.ReviewCreationResult;
+import ru.mssecondteam.reviewservice.model.ReviewCursor;
 import ru.mssecondteam.reviewservice.repository.ReviewRepository;
+import ru.mssecondteam.reviewservice.repository.version.ReviewVersionRepository;
+import ru.mssecondteam.reviewservice.service.cache.ReviewCache;
+import ru.mssecondteam.reviewservice.service.invalidation.CacheInvalidationPublisher;
 import ru.mssecondteam.reviewservice.service.like.LikeService;
+import ru.mssecondteam.reviewservice.service.stats.StatsService;
+import ru.mssecondteam.reviewservice.service.top.TopReviewsIndex;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
-
-import static org.springframework.data.domain.Sort.Direction.ASC;
-import static org.springframework.data.domain.Sort.Direction.DESC;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -35,25 +49,95 @@ public class ReviewServiceImpl implements ReviewService {
 
     private final RegistrationServiceHelper registrationServiceHelper;
 
-    @Value("${app.top-reviews-limit}")
-    private int topReviewsLimit;
+    private final RemoteCallExecutor remoteCallExecutor;
+
+    private final StatsService statsService;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final TopReviewsIndex topReviewsIndex;
+
+    private final ReviewCache reviewCache;
+
+    private final CacheInvalidationPublisher cacheInvalidationPublisher;
+
+    private final ReviewVersionRepository reviewVersionRepository;
+
+    @Value("${app.reviews-batch.max-size}")
+    private Integer reviewsBatchMaxSize;
 
     @Override
     public Review createReview(Review review, Long userId) {
         review.setAuthorId(userId);
-        eventServiceHelper.checkThatEventHasPassedAndUserIsEventTeamMembers(review.getAuthorId(), review.getEventId());
-        registrationServiceHelper.checkUserApprovedForEvent(review.getEventId(), review.getUsername());
-        final Review savedReview = reviewRepository.save(review);
+        RemoteCallExecutor.await(RemoteCallExecutor.allInOrder(
+                eventServiceHelper.checkThatEventHasPassedAndUserIsEventTeamMembersAsync(userId, review.getEventId()),
+                remoteCallExecutor.run(() -> registrationServiceHelper.checkUserApprovedForEvent(review.getEventId(),
+                        review.getUsername()))));
+        final Review savedReview = transactionTemplate.execute(status -> {
+            final Review newReview = reviewRepository.saveAndFlush(review);
+            statsService.updateEventStatsOnReviewCreated(newReview);
+            topReviewsIndex.onReviewCreated(newReview);
+            cacheInvalidationPublisher.publishEventChanged(newReview.getEventId());
+            reviewVersionRepository.incrementEventsVersions(List.of(newReview.getEventId()));
+            return newReview;
+        });
         log.info("Review with id '{}' was created", savedReview.getId());
         return savedReview;
     }
 
     @Override
+    public List<ReviewCreationResult> createReviews(List<Review> reviews, Long userId) {
+        final Map<Long, CompletableFuture<Set<String>>> eventChecks = new HashMap<>();
+        for (Review review : reviews) {
+            review.setAuthorId(userId);
+            eventChecks.computeIfAbsent(review.getEventId(), eventId -> checkEventForBatch(eventId, userId));
+        }
+        CompletableFuture.allOf(eventChecks.values().toArray(CompletableFuture[]::new))
+                .exceptionally(e -> null)
+                .join();
+
+        final List<ReviewCreationResult> results = new ArrayList<>(reviews.size());
+        final List<Review> validReviews = new ArrayList<>(reviews.size());
+        for (Review review : reviews) {
+            try {
+                final Set<String> approvedUsernames = RemoteCallExecutor.await(eventChecks.get(review.getEventId()));
+                registrationServiceHelper.checkUserApprovedForEvent(review.getEventId(), review.getUsername(),
+                        approvedUsernames);
+                validReviews.add(review);
+                results.add(new ReviewCreationResult(review, null));
+            } catch (NotFoundException | NotAuthorizedException | ValidationException e) {
+                results.add(new ReviewCreationResult(review, e));
+            }
+        }
+        if (!validReviews.isEmpty()) {
+            transactionTemplate.executeWithoutResult(status -> {
+                reviewRepository.saveAllAndFlush(validReviews);
+                statsService.updateEventStatsOnReviewsCreated(validReviews);
+                validReviews.forEach(topReviewsIndex::onReviewCreated);
+                validReviews.forEach(review -> cacheInvalidationPublisher.publishEventChanged(review.getEventId()));
+                reviewVersionRepository.incrementEventsVersions(validReviews.stream()
+                        .map(Review::getEventId)
+                        .toList());
+            });
+        }
+        log.info("User with id '{}' created '{}' of '{}' reviews for '{}' events", userId, validReviews.size(),
+                reviews.size(), eventChecks.size());
+        return results;
+    }
+
+    @Override
+    @Transactional
     public Review updateReview(Long reviewId, ReviewUpdateRequest updateRequest, Long userId) {
-        final Review reviewToUpdate = getReviewById(reviewId);
+        final Review reviewToUpdate = getReviewByIdForUpdate(reviewId);
         checkIfUserIsAuthor(reviewToUpdate, userId);
+        final int oldMark = reviewToUpdate.getMark();
         reviewMapper.updateReview(updateRequest, reviewToUpdate);
-        final Review updatedReview = reviewRepository.save(reviewToUpdate);
+        final Review updatedReview = reviewRepository.saveAndFlush(reviewToUpdate);
+        statsService.updateEventStatsOnReviewUpdated(reviewId, oldMark, updatedReview.getMark());
+        topReviewsIndex.onReviewUpdated(updatedReview);
+        reviewCache.evict(reviewId);
+        cacheInvalidationPublisher.publishReviewChanged(reviewId, updatedReview.getEventId());
+        reviewVersionRepository.incrementEventsVersions(List.of(updatedReview.getEventId()));
         log.info("Review with id '{}' was updated", updatedReview.getId());
         return updatedReview;
     }
@@ -64,44 +148,101 @@ public class ReviewServiceImpl implements ReviewService {
     }
 
     @Override
-    public List<Review> findReviewsByEventId(Long eventId, Integer page, Integer size, Long userId) {
-        final Pageable pageable = PageRequest.of(page, size);
-        final List<Review> eventReviews = reviewRepository.findReviewsByEventId(eventId, pageable);
+    public ReviewDto findReviewWithLikesById(Long reviewId, Long userId) {
+        return findReviewWithLikesById(reviewId, userId, null);
+    }
+
+    @Override
+    public ReviewDto findReviewWithLikesById(Long reviewId, Long userId, String version) {
+        return reviewCache.get(reviewId, version, id -> reviewMapper.toDtoWithLikes(getReviewById(id),
+                likeService.getNumberOfLikesAndDislikesByReviewId(id)));
+    }
+
+    @Override
+    public List<Review> findReviewsByIds(List<Long> reviewsIds, Long userId) {
+        if (reviewsIds.isEmpty() || reviewsIds.size() > reviewsBatchMaxSize) {
+            throw new ValidationException(String.format("Number of review ids must be between 1 and %s",
+                    reviewsBatchMaxSize));
+        }
+        final List<Long> distinctIds = reviewsIds.stream()
+                .distinct()
+                .toList();
+        final Map<Long, Review> reviewsById = reviewRepository.findAllById(distinctIds).stream()
+                .collect(Collectors.toMap(Review::getId, Function.identity()));
+        final List<Review> reviews = distinctIds.stream()
+                .map(reviewsById::get)
+                .filter(Objects::nonNull)
+                .toList();
+        log.info("Found '{}' of '{}' requested reviews", reviews.size(), distinctIds.size());
+        return reviews;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<ReviewDto> findReviewsByEventId(Long eventId, Integer page, Integer size, Long userId) {
+        final List<ReviewDto> eventReviews = reviewRepository.findReviewDtosByEventId(eventId, page * size, size);
         log.info("Found '{}' reviews for event with id '{}", eventReviews.size(), eventId);
         return eventReviews;
     }
 
     @Override
+    @Transactional(readOnly = true)
+    public List<ReviewDto> findReviewsByEventIdAfter(Long eventId, ReviewCursor cursor, Integer size, Long userId) {
+        if (cursor == null) {
+            return findReviewsByEventId(eventId, 0, size, userId);
+        }
+        final List<ReviewDto> eventReviews = reviewRepository.findReviewDtosByEventIdAfter(eventId,
+                cursor.createdDateTime(), cursor.reviewId(), size);
+        log.info("Found '{}' reviews for event with id '{}' after review with id '{}'", eventReviews.size(), eventId,
+                cursor.reviewId());
+        return eventReviews;
+    }
+
+    @Override
+    @Transactional
     public void deleteReviewById(Long reviewId, Long userId) {
-        final Review reviewToDelete = getReviewById(reviewId);
+        final Review reviewToDelete = getReviewByIdForUpdate(reviewId);
         checkIfUserIsAuthor(reviewToDelete, userId);
+        statsService.updateEventStatsOnReviewDeleted(reviewId);
+        topReviewsIndex.onReviewDeleted(reviewToDelete);
         reviewRepository.deleteById(reviewId);
+        reviewCache.evict(reviewId);
+        cacheInvalidationPublisher.publishReviewChanged(reviewId, reviewToDelete.getEventId());
+        reviewVersionRepository.incrementEventsVersions(List.of(reviewToDelete.getEventId()));
         log.info("Review with id '{}' was deleted", reviewId);
     }
 
     @Override
-    public Review addLikeOrDislike(Long reviewId, Long userId, Boolean isPositive) {
-        final Review review = getReviewById(reviewId);
-        checkIfUserIsNotAuthor(review, userId);
-        likeService.addLikeOrDislike(review, userId, isPositive);
-        log.info("User with id '{}' add like to review with id '{}'", userId, review.getId());
+    public ReviewDto addLikeOrDislike(Long reviewId, Long userId, Boolean isPositive) {
+        final ReviewDto review = likeService.addLikeOrDislike(reviewId, userId, isPositive);
+        log.info("User with id '{}' add like to review with id '{}'", userId, reviewId);
         return review;
     }
 
     @Override
-    public Review deleteLikeOrDislike(Long reviewId, Long userId, Boolean isPositive) {
-        final Review review = getReviewById(reviewId);
-        checkIfUserIsNotAuthor(review, userId);
-        likeService.deleteLikeOrDislike(reviewId, userId, isPositive);
-        log.info("User with id '{}' delete like to review with id '{}'", userId, review.getId());
+    public ReviewDto deleteLikeOrDislike(Long reviewId, Long userId, Boolean isPositive) {
+        final ReviewDto review = likeService.deleteLikeOrDislike(reviewId, userId, isPositive);
+        log.info("User with id '{}' delete like to review with id '{}'", userId, reviewId);
         return review;
     }
 
     @Override
-    public TopReviews getTopReviews(Long eventId) {
-        final List<Review> worstReviews = reviewRepository.getTopReviewsForEvent(eventId, topReviewsLimit, ASC);
-        final List<Review> bestReviews = reviewRepository.getTopReviewsForEvent(eventId, topReviewsLimit, DESC);
-        return new TopReviews(bestReviews, worstReviews);
+    public TopReviewsDto getTopReviews(Long eventId) {
+        return getTopReviews(eventId, null);
+    }
+
+    @Override
+    public TopReviewsDto getTopReviews(Long eventId, String version) {
+        return topReviewsIndex.getTopReviews(eventId, version);
+    }
+
+    private CompletableFuture<Set<String>> checkEventForBatch(Long eventId, Long userId) {
+        final CompletableFuture<Void> eventCheck =
+                eventServiceHelper.checkThatEventHasPassedAndUserIsEventTeamMembersAsync(userId, eventId);
+        final CompletableFuture<Set<String>> approvedUsernames =
+                remoteCallExecutor.supply(() -> registrationServiceHelper.getApprovedUsernames(eventId));
+        return RemoteCallExecutor.allInOrder(eventCheck, approvedUsernames)
+                .thenApply(ignored -> approvedUsernames.join());
     }
 
     private Review getReviewById(Long reviewId) {
@@ -109,17 +250,15 @@ public class ReviewServiceImpl implements ReviewService {
                 .orElseThrow(() -> new NotFoundException(String.format("Review with id '%s' was not found", reviewId)));
     }
 
+    private Review getReviewByIdForUpdate(Long reviewId) {
+        return reviewRepository.findByIdForUpdate(reviewId)
+                .orElseThrow(() -> new NotFoundException(String.format("Review with id '%s' was not found", reviewId)));
+    }
+
     private void checkIfUserIsAuthor(Review review, Long userId) {
         if (!review.getAuthorId().equals(userId)) {
             throw new NotAuthorizedException(String.format("User with id '%s' is not authorized to modify review " +
                     "with id '%s'", userId, review.getId()));
         }
     }
-
-    private void checkIfUserIsNotAuthor(Review review, Long userId) {
-        if (review.getAuthorId().equals(userId)) {
-            throw new NotAuthorizedException(String.format("User with id '%s' is not authorized to add like/dislike review " +
-                    "with id '%s'", userId, review.getId()));
-        }
-    }
 }
\ No newline at end of file
@@ -0,0 +1,82 @@
+package ru.mssecondteam.reviewservice.service.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import ru.mssecondteam.reviewservice.dto.ReviewDto;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Function;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ReviewCache {
+
+    private static final int VERSION_STRIPES = 64;
+
+    private final Cache<Long, VersionedReview> reviewsCache;
+
+    private final AtomicLongArray versions = new AtomicLongArray(VERSION_STRIPES);
+
+    public ReviewDto get(Long reviewId, Function<Long, ReviewDto> loader) {
+        return get(reviewId, null, loader);
+    }
+
+    public ReviewDto get(Long reviewId, String version, Function<Long, ReviewDto> loader) {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            return loader.apply(reviewId);
+        }
+        final VersionedReview cachedReview = reviewsCache.getIfPresent(reviewId);
+        if (cachedReview != null && (version == null || version.equals(cachedReview.version()))) {
+            return cachedReview.review();
+        }
+        final long stripeVersion = versions.get(stripe(reviewId));
+        final ReviewDto review = loader.apply(reviewId);
+        reviewsCache.asMap().compute(reviewId, (id, currentReview) ->
+                versions.get(stripe(id)) == stripeVersion ? versioned(version, review) : currentReview);
+        return review;
+    }
+
+    public void evict(Long reviewId) {
+        afterCommit(() -> {
+            versions.incrementAndGet(stripe(reviewId));
+            reviewsCache.invalidate(reviewId);
+            log.debug("Review with id '{}' was evicted from cache", reviewId);
+        });
+    }
+
+    public void evictAll() {
+        afterCommit(() -> {
+            for (int i = 0; i < VERSION_STRIPES; i++) {
+                versions.incrementAndGet(i);
+            }
+            reviewsCache.invalidateAll();
+            log.info("Reviews cache was cleared");
+        });
+    }
+
+    private VersionedReview versioned(String version, ReviewDto review) {
+        return review == null ? null : new VersionedReview(version, review);
+    }
+
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    private int stripe(Long reviewId) {
+        return Long.hashCode(reviewId) & (VERSION_STRIPES - 1);
+    }
+}
@@ -0,0 +1,11 @@
+package ru.mssecondteam.reviewservice.service.cache;
+
+import ru.mssecondteam.reviewservice.dto.ReviewDto;
+
+public record VersionedReview(
+
+        String version,
+
+        ReviewDto review
+) {
+}
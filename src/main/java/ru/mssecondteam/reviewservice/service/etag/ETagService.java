@@ -0,0 +1,18 @@
+package ru.mssecondteam.reviewservice.service.etag;
+
+import java.util.List;
+
+public interface ETagService {
+
+    String getRepresentationETag(Object representation);
+
+    String getReviewETag(Long reviewId);
+
+    String getEventReviewsETag(Long eventId, Object... parameters);
+
+    String getReviewsETag(List<Long> reviewsIds);
+
+    String getEventETag(Long eventId);
+
+    String getEventsETag(List<Long> eventIds);
+}
@@ -0,0 +1,113 @@
+package ru.mssecondteam.reviewservice.service.etag;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.util.DigestUtils;
+import ru.mssecondteam.reviewservice.model.EventReviewsVersion;
+import ru.mssecondteam.reviewservice.model.ReviewVersion;
+import ru.mssecondteam.reviewservice.repository.version.ReviewVersionRepository;
+import ru.mssecondteam.reviewservice.service.like.VoteBuffer;
+
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.StringJoiner;
+
+@Service
+@RequiredArgsConstructor
+public class ETagServiceImpl implements ETagService {
+
+    private final ReviewVersionRepository reviewVersionRepository;
+
+    private final VoteBuffer voteBuffer;
+
+    private final ObjectMapper objectMapper;
+
+    @Value("${app.reviews-batch.max-size}")
+    private Integer reviewsBatchMaxSize;
+
+    @Value("${app.events-stats-batch.max-size}")
+    private Integer eventsStatsMaxSize;
+
+    @Override
+    public String getRepresentationETag(Object representation) {
+        if (representation == null) {
+            return null;
+        }
+        try {
+            return weakETag(objectMapper.writeValueAsBytes(representation));
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public String getReviewETag(Long reviewId) {
+        final String pendingVersion = voteBuffer.getPendingVersion(List.of(reviewId));
+        return reviewVersionRepository.getReviewsVersions(List.of(reviewId)).stream()
+                .findFirst()
+                .map(version -> weakETag("review", toString(version), pendingVersion))
+                .orElse(null);
+    }
+
+    @Override
+    public String getEventReviewsETag(Long eventId, Object... parameters) {
+        final String pendingVersion = voteBuffer.getEventPendingVersion(eventId);
+        final EventReviewsVersion version = reviewVersionRepository.getEventReviewsVersion(eventId);
+        final StringJoiner eventParameters = new StringJoiner(",");
+        for (Object parameter : parameters) {
+            eventParameters.add(String.valueOf(parameter));
+        }
+        return weakETag("event-reviews", eventId + "-" + version.version() + "-" + version.voteVersion(),
+                pendingVersion, eventParameters.toString());
+    }
+
+    @Override
+    public String getReviewsETag(List<Long> reviewsIds) {
+        if (reviewsIds.isEmpty() || reviewsIds.size() > reviewsBatchMaxSize) {
+            return null;
+        }
+        final String pendingVersion = voteBuffer.getPendingVersion(reviewsIds);
+        final StringJoiner versions = new StringJoiner(",");
+        for (ReviewVersion version : reviewVersionRepository.getReviewsVersions(reviewsIds)) {
+            versions.add(toString(version));
+        }
+        return weakETag("reviews", versions.toString(), pendingVersion);
+    }
+
+    @Override
+    public String getEventETag(Long eventId) {
+        final long version = reviewVersionRepository.getEventVersion(eventId);
+        return version == 0 ? null : weakETag("event", eventId + "-" + version);
+    }
+
+    @Override
+    public String getEventsETag(List<Long> eventIds) {
+        if (eventIds.isEmpty() || eventIds.size() > eventsStatsMaxSize) {
+            return null;
+        }
+        final Map<Long, Long> versions = reviewVersionRepository.getEventsVersions(eventIds);
+        final StringJoiner eventsVersions = new StringJoiner(",");
+        eventIds.stream()
+                .distinct()
+                .sorted()
+                .forEach(eventId -> eventsVersions.add(eventId + "-" + versions.getOrDefault(eventId, 0L)));
+        return weakETag("events", eventsVersions.toString());
+    }
+
+    private String toString(ReviewVersion version) {
+        return version.reviewId() + "-" + version.updatedDateTime() + "-" + version.voteVersion();
+    }
+
+    private String weakETag(String... parts) {
+        return weakETag(String.join("|", parts).getBytes(StandardCharsets.UTF_8));
+    }
+
+    private String weakETag(byte[] content) {
+        return "W/\"" + DigestUtils.md5DigestAsHex(content) + "\"";
+    }
+}
@@ -0,0 +1,9 @@
+package ru.mssecondteam.reviewservice.service.export;
+
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.context.request.async.WebAsyncTask;
+
+public interface ReviewExportService {
+
+    WebAsyncTask<Void> exportEventReviews(Long eventId, boolean gzip, HttpServletResponse response);
+}
@@ -0,0 +1,121 @@
+package ru.mssecondteam.reviewservice.service.export;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.context.request.async.AsyncRequestTimeoutException;
+import org.springframework.web.context.request.async.WebAsyncTask;
+import ru.mssecondteam.reviewservice.dto.ReviewDto;
+import ru.mssecondteam.reviewservice.exception.TooManyRequestsException;
+import ru.mssecondteam.reviewservice.repository.ReviewRepository;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+@Service
+@Slf4j
+public class ReviewExportServiceImpl implements ReviewExportService {
+
+    private static final Duration ABORT_LOCK_TIMEOUT = Duration.ofSeconds(1);
+
+    private final ReviewRepository reviewRepository;
+
+    private final ObjectMapper objectMapper;
+
+    private final ObjectWriter reviewWriter;
+
+    private final int chunkSize;
+
+    private final int maxConcurrentExports;
+
+    private final Duration timeout;
+
+    private final Semaphore exportPermits;
+
+    public ReviewExportServiceImpl(ReviewRepository reviewRepository,
+                                   ObjectMapper objectMapper,
+                                   @Value("${app.reviews-export.chunk-size}") int chunkSize,
+                                   @Value("${app.reviews-export.max-concurrent}") int maxConcurrentExports,
+                                   @Value("${app.reviews-export.timeout}") Duration timeout) {
+        this.reviewRepository = reviewRepository;
+        this.objectMapper = objectMapper;
+        this.reviewWriter = objectMapper.writerFor(ReviewDto.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        this.chunkSize = chunkSize;
+        this.maxConcurrentExports = maxConcurrentExports;
+        this.timeout = timeout;
+        this.exportPermits = new Semaphore(maxConcurrentExports);
+    }
+
+    @Override
+    public WebAsyncTask<Void> exportEventReviews(Long eventId, boolean gzip, HttpServletResponse response) {
+        if (!exportPermits.tryAcquire()) {
+            throw new TooManyRequestsException(String.format("Only '%s' reviews exports can run at the same time",
+                    maxConcurrentExports));
+        }
+        final AtomicBoolean permitReleased = new AtomicBoolean();
+        final Runnable releasePermit = () -> {
+            if (permitReleased.compareAndSet(false, true)) {
+                exportPermits.release();
+            }
+        };
+        final ReviewExportStream stream = new ReviewExportStream(eventId, objectMapper, reviewWriter, response,
+                gzip);
+        final WebAsyncTask<Void> export = new WebAsyncTask<>(timeout.toMillis(), () -> {
+            try {
+                export(eventId, stream);
+                return null;
+            } finally {
+                releasePermit.run();
+            }
+        });
+        export.onTimeout(() -> {
+            if (!stream.abortOnTimeout(ABORT_LOCK_TIMEOUT)) {
+                throw new AsyncRequestTimeoutException();
+            }
+            log.warn("Export of reviews for event with id '{}' timed out after '{}' ms", eventId, timeout.toMillis());
+            return null;
+        });
+        export.onCompletion(releasePermit);
+        return export;
+    }
+
+    private void export(Long eventId, ReviewExportStream stream) throws IOException {
+        final long start = System.nanoTime();
+        try {
+            final long rowCount = writeEventReviews(eventId, stream);
+            log.info("Exported '{}' reviews for event with id '{}' in '{}' ms", rowCount, eventId,
+                    (System.nanoTime() - start) / 1_000_000);
+        } catch (IOException e) {
+            log.warn("Export of reviews for event with id '{}' was aborted: {}", eventId, e.getMessage());
+            throw e;
+        } finally {
+            stream.close();
+        }
+    }
+
+    private long writeEventReviews(Long eventId, ReviewExportStream stream) throws IOException {
+        List<ReviewDto> reviews = reviewRepository.findReviewDtosByEventId(eventId, 0, chunkSize);
+        while (true) {
+            stream.write(reviews);
+            if (reviews.size() < chunkSize) {
+                break;
+            }
+            if (Thread.currentThread().isInterrupted()) {
+                throw new InterruptedIOException("Export was interrupted");
+            }
+            final ReviewDto lastReview = reviews.get(reviews.size() - 1);
+            reviews = reviewRepository.findReviewDtosByEventIdAfter(eventId, lastReview.createdDateTime(),
+                    lastReview.id(), chunkSize);
+        }
+        return stream.finish();
+    }
+}
@@ -0,0 +1,147 @@
+package ru.mssecondteam.reviewservice.service.export;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import jakarta.servlet.http.HttpServletResponse;
+import ru.mssecondteam.reviewservice.dto.ReviewDto;
+import ru.mssecondteam.reviewservice.dto.ReviewExportTrailer;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.zip.GZIPOutputStream;
+
+class ReviewExportStream {
+
+    static final String TIMEOUT_ERROR = "Export timed out";
+
+    private static final int GZIP_BUFFER_SIZE = 8192;
+
+    private final Long eventId;
+
+    private final ObjectMapper objectMapper;
+
+    private final ObjectWriter reviewWriter;
+
+    private final ObjectWriter trailerWriter;
+
+    private final HttpServletResponse response;
+
+    private final boolean gzip;
+
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private JsonGenerator generator;
+
+    private long rowCount;
+
+    private boolean closed;
+
+    private volatile boolean timedOut;
+
+    ReviewExportStream(Long eventId, ObjectMapper objectMapper, ObjectWriter reviewWriter, HttpServletResponse response,
+                       boolean gzip) {
+        this.eventId = eventId;
+        this.objectMapper = objectMapper;
+        this.reviewWriter = reviewWriter;
+        this.trailerWriter = objectMapper.writer();
+        this.response = response;
+        this.gzip = gzip;
+    }
+
+    void write(List<ReviewDto> reviews) throws IOException {
+        lock.lock();
+        try {
+            checkWritable();
+            for (ReviewDto review : reviews) {
+                writeLine(reviewWriter, review);
+            }
+            rowCount += reviews.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    long finish() throws IOException {
+        lock.lock();
+        try {
+            checkWritable();
+            writeLine(trailerWriter, new ReviewExportTrailer(eventId, rowCount, null));
+            closed = true;
+            generator.close();
+            return rowCount;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    void close() throws IOException {
+        lock.lock();
+        try {
+            if (timedOut) {
+                abort();
+            } else if (!closed) {
+                closed = true;
+                if (generator != null) {
+                    generator.close();
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    boolean abortOnTimeout(Duration lockTimeout) throws IOException, InterruptedException {
+        timedOut = true;
+        if (!lock.tryLock(lockTimeout.toMillis(), TimeUnit.MILLISECONDS)) {
+            return true;
+        }
+        try {
+            final boolean started = generator != null;
+            abort();
+            return started;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void checkWritable() throws IOException {
+        if (timedOut) {
+            abort();
+        }
+        if (closed) {
+            throw new InterruptedIOException("Export was aborted");
+        }
+        if (generator == null) {
+            final OutputStream outputStream = response.getOutputStream();
+            generator = objectMapper.getFactory()
+                    .createGenerator(gzip ? new GZIPOutputStream(outputStream, GZIP_BUFFER_SIZE) : outputStream);
+            generator.setRootValueSeparator(null);
+        }
+    }
+
+    private void abort() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        if (generator == null) {
+            return;
+        }
+        try {
+            writeLine(trailerWriter, new ReviewExportTrailer(eventId, rowCount, TIMEOUT_ERROR));
+        } finally {
+            generator.close();
+        }
+    }
+
+    private void writeLine(ObjectWriter writer, Object value) throws IOException {
+        writer.writeValue(generator, value);
+        generator.writeRaw('\n');
+    }
+}
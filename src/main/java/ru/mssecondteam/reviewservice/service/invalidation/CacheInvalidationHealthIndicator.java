@@ -0,0 +1,37 @@
+package ru.mssecondteam.reviewservice.service.invalidation;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+
+@Component
+@RequiredArgsConstructor
+public class CacheInvalidationHealthIndicator implements HealthIndicator {
+
+    private final CacheInvalidationPublisher cacheInvalidationPublisher;
+
+    private final CacheInvalidationListener cacheInvalidationListener;
+
+    @Override
+    public Health health() {
+        if (!cacheInvalidationPublisher.isEnabled()) {
+            return Health.up()
+                    .withDetail("enabled", false)
+                    .build();
+        }
+        if (!cacheInvalidationListener.isRunning()) {
+            return Health.unknown()
+                    .withDetail("channel", CacheInvalidationPublisher.CHANNEL)
+                    .build();
+        }
+        final Instant lastHeartbeat = cacheInvalidationListener.getLastHeartbeat();
+        final Health.Builder health = cacheInvalidationListener.isListening() ? Health.up() : Health.down();
+        return health
+                .withDetail("channel", CacheInvalidationPublisher.CHANNEL)
+                .withDetail("lastHeartbeat", lastHeartbeat == null ? "never" : lastHeartbeat.toString())
+                .build();
+    }
+}
@@ -0,0 +1,194 @@
+package ru.mssecondteam.reviewservice.service.invalidation;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jdbc.JdbcConnectionDetails;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import ru.mssecondteam.reviewservice.model.CacheInvalidation;
+import ru.mssecondteam.reviewservice.service.cache.ReviewCache;
+import ru.mssecondteam.reviewservice.service.top.TopReviewsIndex;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+@Component
+@Slf4j
+public class CacheInvalidationListener {
+
+    private static final int VALIDATION_TIMEOUT_SECONDS = 5;
+
+    private final JdbcConnectionDetails connectionDetails;
+
+    private final CacheInvalidationPublisher cacheInvalidationPublisher;
+
+    private final ReviewCache reviewCache;
+
+    private final TopReviewsIndex topReviewsIndex;
+
+    private final int pollTimeoutMillis;
+
+    private final long reconnectDelayMillis;
+
+    private final ExecutorService listenerExecutor = Executors.newSingleThreadExecutor(
+            new CustomizableThreadFactory("cache-invalidation-"));
+
+    private volatile boolean running;
+
+    private volatile boolean listening;
+
+    private volatile Instant lastHeartbeat;
+
+    public CacheInvalidationListener(JdbcConnectionDetails connectionDetails,
+                                     CacheInvalidationPublisher cacheInvalidationPublisher,
+                                     ReviewCache reviewCache,
+                                     TopReviewsIndex topReviewsIndex,
+                                     @Value("${app.cache-invalidation.poll-timeout}") Duration pollTimeout,
+                                     @Value("${app.cache-invalidation.reconnect-delay}") Duration reconnectDelay) {
+        this.connectionDetails = connectionDetails;
+        this.cacheInvalidationPublisher = cacheInvalidationPublisher;
+        this.reviewCache = reviewCache;
+        this.topReviewsIndex = topReviewsIndex;
+        this.pollTimeoutMillis = (int) pollTimeout.toMillis();
+        this.reconnectDelayMillis = reconnectDelay.toMillis();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!cacheInvalidationPublisher.isEnabled()) {
+            return;
+        }
+        running = true;
+        listenerExecutor.execute(this::listen);
+    }
+
+    public boolean isRunning() {
+        return running;
+    }
+
+    public boolean isListening() {
+        final Instant heartbeat = lastHeartbeat;
+        return listening && heartbeat != null && heartbeat.plus(getHeartbeatTimeout()).isAfter(Instant.now());
+    }
+
+    public Instant getLastHeartbeat() {
+        return lastHeartbeat;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        running = false;
+        listenerExecutor.shutdownNow();
+    }
+
+    private void listen() {
+        while (running) {
+            try (Connection connection = DriverManager.getConnection(connectionDetails.getJdbcUrl(),
+                    connectionDetails.getUsername(), connectionDetails.getPassword())) {
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("LISTEN " + CacheInvalidationPublisher.CHANNEL);
+                }
+                log.info("Listening for cache invalidations on channel '{}'", CacheInvalidationPublisher.CHANNEL);
+                listening = true;
+                lastHeartbeat = Instant.now();
+                flushAll();
+                receive(connection);
+            } catch (SQLException | RuntimeException e) {
+                listening = false;
+                if (running) {
+                    log.warn("Cache invalidation listener failed, reconnecting in '{}' ms", reconnectDelayMillis, e);
+                    pause();
+                }
+            }
+        }
+        listening = false;
+    }
+
+    private void receive(Connection connection) throws SQLException {
+        final PGConnection pgConnection = connection.unwrap(PGConnection.class);
+        while (running) {
+            final PGNotification[] notifications = pgConnection.getNotifications(pollTimeoutMillis);
+            if (notifications == null || notifications.length == 0) {
+                if (!connection.isValid(VALIDATION_TIMEOUT_SECONDS)) {
+                    throw new SQLException("Cache invalidation connection is not valid");
+                }
+                lastHeartbeat = Instant.now();
+                continue;
+            }
+            final List<PGNotification> batch = new ArrayList<>(Arrays.asList(notifications));
+            final PGNotification[] pendingNotifications = pgConnection.getNotifications();
+            if (pendingNotifications != null) {
+                batch.addAll(Arrays.asList(pendingNotifications));
+            }
+            try {
+                apply(batch);
+            } catch (RuntimeException e) {
+                log.error("Failed to apply '{}' cache invalidations, flushing caches", batch.size(), e);
+                flushAll();
+            }
+            lastHeartbeat = Instant.now();
+        }
+    }
+
+    private void apply(List<PGNotification> notifications) {
+        final Set<Long> reviewsIds = new HashSet<>();
+        final Set<Long> eventsIds = new HashSet<>();
+        for (PGNotification notification : notifications) {
+            final CacheInvalidation invalidation;
+            try {
+                invalidation = CacheInvalidation.decode(notification.getParameter());
+            } catch (IllegalArgumentException e) {
+                log.warn("Received invalid cache invalidation '{}', flushing caches", notification.getParameter());
+                flushAll();
+                return;
+            }
+            if (invalidation.nodeId().equals(cacheInvalidationPublisher.getNodeId())) {
+                continue;
+            }
+            if (invalidation.flushAll()) {
+                flushAll();
+                return;
+            }
+            reviewsIds.addAll(invalidation.reviewsIds());
+            eventsIds.addAll(invalidation.eventsIds());
+        }
+        reviewsIds.forEach(reviewCache::evict);
+        eventsIds.forEach(topReviewsIndex::evict);
+        log.debug("Applied '{}' cache invalidations for '{}' reviews and '{}' events", notifications.size(),
+                reviewsIds.size(), eventsIds.size());
+    }
+
+    private void flushAll() {
+        reviewCache.evictAll();
+        topReviewsIndex.evictAll();
+    }
+
+    private Duration getHeartbeatTimeout() {
+        return Duration.ofMillis(pollTimeoutMillis).multipliedBy(2).plusSeconds(VALIDATION_TIMEOUT_SECONDS);
+    }
+
+    private void pause() {
+        try {
+            Thread.sleep(reconnectDelayMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            running = false;
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package ru.mssecondteam.reviewservice.service.invalidation;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import ru.mssecondteam.reviewservice.model.CacheInvalidation;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+@Component
+@Slf4j
+public class CacheInvalidationPublisher {
+
+    public static final String CHANNEL = "review_cache_invalidation";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final boolean enabled;
+
+    private final int maxIdsPerMessage;
+
+    private final String nodeId = UUID.randomUUID().toString();
+
+    public CacheInvalidationPublisher(JdbcTemplate jdbcTemplate,
+                                      @Value("${app.cache-invalidation.enabled}") boolean enabled,
+                                      @Value("${app.cache-invalidation.max-ids-per-message}") int maxIdsPerMessage) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.enabled = enabled;
+        this.maxIdsPerMessage = maxIdsPerMessage;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    public void publishReviewChanged(Long reviewId, Long eventId) {
+        if (!enabled) {
+            return;
+        }
+        final PendingInvalidations pending = getPendingInvalidations();
+        pending.reviewsIds().add(reviewId);
+        pending.eventsIds().add(eventId);
+        sendIfNotInTransaction(pending);
+    }
+
+    public void publishEventChanged(Long eventId) {
+        if (!enabled) {
+            return;
+        }
+        final PendingInvalidations pending = getPendingInvalidations();
+        pending.eventsIds().add(eventId);
+        sendIfNotInTransaction(pending);
+    }
+
+    public void publishFlushAll() {
+        if (enabled) {
+            notify(CacheInvalidation.flushAll(nodeId));
+        }
+    }
+
+    private PendingInvalidations getPendingInvalidations() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return new PendingInvalidations(new LinkedHashSet<>(), new LinkedHashSet<>());
+        }
+        final PendingInvalidations boundPending = (PendingInvalidations) TransactionSynchronizationManager.getResource(this);
+        if (boundPending != null) {
+            return boundPending;
+        }
+        final PendingInvalidations pending = new PendingInvalidations(new LinkedHashSet<>(), new LinkedHashSet<>());
+        TransactionSynchronizationManager.bindResource(this, pending);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void beforeCommit(boolean readOnly) {
+                send(pending);
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(CacheInvalidationPublisher.this);
+            }
+        });
+        return pending;
+    }
+
+    private void sendIfNotInTransaction(PendingInvalidations pending) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            send(pending);
+        }
+    }
+
+    private void send(PendingInvalidations pending) {
+        final List<Long> reviewsIds = new ArrayList<>(pending.reviewsIds());
+        final List<Long> eventsIds = new ArrayList<>(pending.eventsIds());
+        int reviewsFrom = 0;
+        int eventsFrom = 0;
+        while (reviewsFrom < reviewsIds.size() || eventsFrom < eventsIds.size()) {
+            final int reviewsTo = Math.min(reviewsIds.size(), reviewsFrom + maxIdsPerMessage);
+            final int eventsTo = Math.min(eventsIds.size(), eventsFrom + maxIdsPerMessage - (reviewsTo - reviewsFrom));
+            notify(new CacheInvalidation(nodeId, reviewsIds.subList(reviewsFrom, reviewsTo),
+                    eventsIds.subList(eventsFrom, eventsTo), false));
+            reviewsFrom = reviewsTo;
+            eventsFrom = eventsTo;
+        }
+        log.debug("Published invalidation of '{}' reviews and '{}' events", reviewsIds.size(), eventsIds.size());
+    }
+
+    private void notify(CacheInvalidation invalidation) {
+        jdbcTemplate.queryForList("select pg_notify(?, ?)", CHANNEL, invalidation.encode());
+    }
+
+    private record PendingInvalidations(Set<Long> reviewsIds, Set<Long> eventsIds) {
+    }
+}
@@ -0,0 +1,36 @@
+package ru.mssecondteam.reviewservice.service.like;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import ru.mssecondteam.reviewservice.dto.LikeDto;
+import ru.mssecondteam.reviewservice.dto.ReviewDto;
+import ru.mssecondteam.reviewservice.service.invalidation.CacheInvalidationPublisher;
+import ru.mssecondteam.reviewservice.service.stats.StatsService;
+import ru.mssecondteam.reviewservice.service.top.TopReviewsIndex;
+
+@Component
+@RequiredArgsConstructor
+public class LikeCountersPublisher {
+
+    private final StatsService statsService;
+
+    private final TopReviewsIndex topReviewsIndex;
+
+    private final CacheInvalidationPublisher cacheInvalidationPublisher;
+
+    public void publish(ReviewDto review, long likesDelta, long dislikesDelta) {
+        final LikeDto counters = LikeDto.builder()
+                .reviewId(review.id())
+                .numbersOfLikes(review.numberOfLikes())
+                .numbersOfDislikes(review.numberOfDislikes())
+                .build();
+        final LikeDto previousCounters = LikeDto.builder()
+                .reviewId(review.id())
+                .numbersOfLikes(review.numberOfLikes() - likesDelta)
+                .numbersOfDislikes(review.numberOfDislikes() - dislikesDelta)
+                .build();
+        statsService.updateEventStatsOnVote(review, previousCounters, counters);
+        topReviewsIndex.onVote(review);
+        cacheInvalidationPublisher.publishReviewChanged(review.id(), review.eventId());
+    }
+}
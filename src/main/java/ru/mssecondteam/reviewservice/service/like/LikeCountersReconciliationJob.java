@@ -0,0 +1,108 @@
+package ru.mssecondteam.reviewservice.service.like;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+import ru.mssecondteam.reviewservice.model.CountersChange;
+import ru.mssecondteam.reviewservice.repository.like.LikeRepository;
+import ru.mssecondteam.reviewservice.service.cache.ReviewCache;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.List;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class LikeCountersReconciliationJob {
+
+    private static final long RECONCILIATION_LOCK_KEY = 7_294_001L;
+
+    private final LikeRepository likeRepository;
+
+    private final LikeCountersPublisher likeCountersPublisher;
+
+    private final ReviewCache reviewCache;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${app.like-counters.reconciliation-batch-size}")
+    private int batchSize;
+
+    @Scheduled(cron = "${app.like-counters.reconciliation-cron}")
+    public void reconcile() {
+        jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+            if (!tryLock(connection)) {
+                log.info("Like counters reconciliation is already running on another node");
+                return null;
+            }
+            try {
+                reconcileAll();
+            } finally {
+                unlock(connection);
+            }
+            return null;
+        });
+    }
+
+    private void reconcileAll() {
+        long lastReviewId = 0;
+        int fixedReviews = 0;
+        while (true) {
+            final ReconciledBatch batch = reconcileBatch(lastReviewId);
+            fixedReviews += batch.fixedReviews();
+            if (batch.lastReviewId() == null) {
+                break;
+            }
+            lastReviewId = batch.lastReviewId();
+        }
+        if (fixedReviews > 0) {
+            log.warn("Like counters were out of sync and have been fixed for '{}' reviews", fixedReviews);
+        } else {
+            log.info("Like counters are consistent with likes");
+        }
+    }
+
+    private ReconciledBatch reconcileBatch(long lastReviewId) {
+        return transactionTemplate.execute(status -> {
+            final List<Long> reviewsIds = likeRepository.lockReviewsIdsAfter(lastReviewId, batchSize);
+            if (reviewsIds.isEmpty()) {
+                return new ReconciledBatch(null, 0);
+            }
+            final List<CountersChange> changes = likeRepository.recalculateLikesAndDislikesCounters(reviewsIds);
+            changes.forEach(change -> {
+                likeCountersPublisher.publish(change.review(), change.likesDelta(), change.dislikesDelta());
+                reviewCache.evict(change.review().id());
+            });
+            return new ReconciledBatch(reviewsIds.get(reviewsIds.size() - 1), changes.size());
+        });
+    }
+
+    private boolean tryLock(Connection connection) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement("select pg_try_advisory_lock(?)")) {
+            statement.setLong(1, RECONCILIATION_LOCK_KEY);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                return resultSet.next() && resultSet.getBoolean(1);
+            }
+        }
+    }
+
+    private void unlock(Connection connection) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement("select pg_advisory_unlock(?)")) {
+            statement.setLong(1, RECONCILIATION_LOCK_KEY);
+            statement.execute();
+        }
+    }
+
+    private record ReconciledBatch(Long lastReviewId, int fixedReviews) {
+    }
+}
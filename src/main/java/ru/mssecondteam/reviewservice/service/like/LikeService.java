@@ -1,18 +1,21 @@
 package ru.mssecondteam.reviewservice.service.like;
 
 import ru.mssecondteam.reviewservice.dto.LikeDto;
-import ru.mssecondteam.reviewservice.model.Review;
+import ru.mssecondteam.reviewservice.dto.ReviewDto;
 
 import java.util.List;
 import java.util.Map;
+import java.util.function.Supplier;
 
 public interface LikeService {
 
-    void addLikeOrDislike(Review review, Long userId, Boolean isPositive);
+    ReviewDto addLikeOrDislike(Long reviewId, Long userId, Boolean isPositive);
 
-    void deleteLikeOrDislike(Long reviewId, Long userId, Boolean isPositive);
+    ReviewDto deleteLikeOrDislike(Long reviewId, Long userId, Boolean isPositive);
 
     LikeDto getNumberOfLikesAndDislikesByReviewId(Long reviewId);
 
     Map<Long, LikeDto> getNumberOfLikesAndDislikesByListReviewsId(List<Long> reviewsIds);
+
+    List<ReviewDto> getReviewsWithActualCounters(Supplier<List<ReviewDto>> reviewsQuery);
 }
\ No newline at end of file
@@ -3,14 +3,18 @@ package ru.mssecondteam.reviewservice.service.like;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
 import ru.mssecondteam.reviewservice.dto.LikeDto;
+import ru.mssecondteam.reviewservice.dto.ReviewDto;
+import ru.mssecondteam.reviewservice.exception.NotAuthorizedException;
 import ru.mssecondteam.reviewservice.exception.NotFoundException;
-import ru.mssecondteam.reviewservice.model.Like;
-import ru.mssecondteam.reviewservice.model.Review;
+import ru.mssecondteam.reviewservice.model.VoteResult;
 import ru.mssecondteam.reviewservice.repository.like.LikeRepository;
+import ru.mssecondteam.reviewservice.service.cache.ReviewCache;
 
 import java.util.List;
 import java.util.Map;
+import java.util.function.Supplier;
 
 @Service
 @RequiredArgsConstructor
@@ -19,49 +23,99 @@ public class LikeServiceImpl implements LikeService {
 
     private final LikeRepository repository;
 
+    private final LikeCountersPublisher likeCountersPublisher;
+
+    private final VoteBuffer voteBuffer;
+
+    private final ReviewCache reviewCache;
+
+    private final TransactionTemplate transactionTemplate;
+
     @Override
-    public void addLikeOrDislike(Review review, Long userId, Boolean isPositive) {
-        Like like = getLikeByUserIdAndReviewId(userId, review.getId());
-
-        if (like == null) {
-            Like newLike = new Like(null, userId, review, isPositive);
-            repository.save(newLike);
-            log.info("User with id '{}' add '{}' like to review with id '{}'", userId, isPositive, review.getId());
-        } else if (like.getIsPositive() != isPositive) {
-            repository.deleteById(like.getId());
-            log.info("User with id '{}' delete '{}' like to review with id '{}'", userId, isPositive, review.getId());
+    public ReviewDto addLikeOrDislike(Long reviewId, Long userId, Boolean isPositive) {
+        if (voteBuffer.isEnabled()) {
+            final ReviewDto review = voteBuffer.addLikeOrDislike(reviewId, userId, isPositive);
+            reviewCache.evict(reviewId);
+            return review;
         }
+        return transactionTemplate.execute(status -> addLikeOrDislikeDirectly(reviewId, userId, isPositive));
     }
 
     @Override
-    public void deleteLikeOrDislike(Long reviewId, Long userId, Boolean isPositive) {
-        Like like = getLikeByUserIdAndReviewId(userId, reviewId);
+    public ReviewDto deleteLikeOrDislike(Long reviewId, Long userId, Boolean isPositive) {
+        if (voteBuffer.isEnabled()) {
+            final ReviewDto review = voteBuffer.deleteLikeOrDislike(reviewId, userId, isPositive);
+            reviewCache.evict(reviewId);
+            return review;
+        }
+        return transactionTemplate.execute(status -> deleteLikeOrDislikeDirectly(reviewId, userId, isPositive));
+    }
+
+    private ReviewDto addLikeOrDislikeDirectly(Long reviewId, Long userId, Boolean isPositive) {
+        final VoteResult vote = repository.addLikeOrDislike(reviewId, userId, isPositive)
+                .orElseThrow(() -> reviewNotFound(reviewId));
+        checkIfUserIsNotAuthor(vote, userId);
+
+        if (vote.isCountersChanged()) {
+            likeCountersPublisher.publish(vote.review(), vote.likesDelta(), vote.dislikesDelta());
+            reviewCache.evict(reviewId);
+            log.info("User with id '{}' {} '{}' like to review with id '{}'", userId,
+                    vote.hadVote() ? "delete" : "add", isPositive, reviewId);
+        }
+        return vote.review();
+    }
 
-        if (like == null) {
+    private ReviewDto deleteLikeOrDislikeDirectly(Long reviewId, Long userId, Boolean isPositive) {
+        final VoteResult vote = repository.deleteLikeOrDislike(reviewId, userId, isPositive)
+                .orElseThrow(() -> reviewNotFound(reviewId));
+        checkIfUserIsNotAuthor(vote, userId);
+
+        if (!vote.hadVote()) {
             throw new NotFoundException(String.format("Like with userId '%s' and reviewId '%s' was not found",
                     userId, reviewId));
         }
-        if (like.getIsPositive() == isPositive) {
-            repository.deleteById(like.getId());
+        if (vote.isCountersChanged()) {
+            likeCountersPublisher.publish(vote.review(), vote.likesDelta(), vote.dislikesDelta());
+            reviewCache.evict(reviewId);
             log.info("User with id '{}' delete '{}' like to review with id '{}'", userId, isPositive, reviewId);
         }
-
+        return vote.review();
     }
 
     @Override
     public LikeDto getNumberOfLikesAndDislikesByReviewId(Long reviewId) {
         log.info("Received likes and dislikes for review with id '{}'", reviewId);
+        if (voteBuffer.isEnabled()) {
+            return voteBuffer.getLikesAndDislikesByReviewId(reviewId);
+        }
         return repository.getLikesAndDislikesByReviewId(reviewId).orElse(null);
     }
 
     @Override
     public Map<Long, LikeDto> getNumberOfLikesAndDislikesByListReviewsId(List<Long> reviewsIds) {
         log.info("Received likes and dislikes for reviews with ids '{}'", reviewsIds);
+        if (voteBuffer.isEnabled()) {
+            return voteBuffer.getLikesAndDislikesByReviewsIds(reviewsIds);
+        }
         return repository.getLikesAndDislikesByReviewsIds(reviewsIds);
     }
 
-    private Like getLikeByUserIdAndReviewId(Long userId, Long reviewId) {
-        return repository.getLikeByUserIdAndReviewId(userId, reviewId).orElse(null);
+    @Override
+    public List<ReviewDto> getReviewsWithActualCounters(Supplier<List<ReviewDto>> reviewsQuery) {
+        if (voteBuffer.isEnabled()) {
+            return voteBuffer.getReviewsWithPendingCounters(reviewsQuery);
+        }
+        return reviewsQuery.get();
+    }
+
+    private void checkIfUserIsNotAuthor(VoteResult vote, Long userId) {
+        if (vote.authorId().equals(userId)) {
+            throw new NotAuthorizedException(String.format("User with id '%s' is not authorized to add like/dislike review " +
+                    "with id '%s'", userId, vote.review().id()));
+        }
     }
 
-}
\ No newline at end of file
+    private NotFoundException reviewNotFound(Long reviewId) {
+        return new NotFoundException(String.format("Review with id '%s' was not found", reviewId));
+    }
+}
@@ -0,0 +1,388 @@
+package ru.mssecondteam.reviewservice.service.like;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+import ru.mssecondteam.reviewservice.dto.LikeDto;
+import ru.mssecondteam.reviewservice.dto.ReviewDto;
+import ru.mssecondteam.reviewservice.exception.NotAuthorizedException;
+import ru.mssecondteam.reviewservice.exception.NotFoundException;
+import ru.mssecondteam.reviewservice.exception.TooManyRequestsException;
+import ru.mssecondteam.reviewservice.model.PendingVote;
+import ru.mssecondteam.reviewservice.model.ReviewVoteState;
+import ru.mssecondteam.reviewservice.repository.like.LikeRepository;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.StringJoiner;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+import java.util.stream.Collectors;
+
+@Component
+@Slf4j
+public class VoteBuffer {
+
+    private final LikeRepository likeRepository;
+
+    private final LikeCountersPublisher likeCountersPublisher;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final boolean enabled;
+
+    private final int batchSize;
+
+    private final int maxSize;
+
+    private final Duration fullBufferTimeout;
+
+    private final Semaphore bufferSlots;
+
+    private final Map<VoteKey, BufferedVote> pendingVotes = new ConcurrentHashMap<>();
+
+    private final Map<Long, LikeDto> pendingCounters = new ConcurrentHashMap<>();
+
+    private final Map<Long, Long> pendingEventsVotes = new ConcurrentHashMap<>();
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final AtomicBoolean flushRequested = new AtomicBoolean();
+
+    private final ExecutorService flushExecutor = Executors.newSingleThreadExecutor(
+            new CustomizableThreadFactory("vote-flush-"));
+
+    public VoteBuffer(LikeRepository likeRepository,
+                      LikeCountersPublisher likeCountersPublisher,
+                      PlatformTransactionManager transactionManager,
+                      @Value("${app.likes.write-behind.enabled}") boolean enabled,
+                      @Value("${app.likes.write-behind.batch-size}") int batchSize,
+                      @Value("${app.likes.write-behind.max-size}") int maxSize,
+                      @Value("${app.likes.write-behind.full-buffer-timeout}") Duration fullBufferTimeout) {
+        this.likeRepository = likeRepository;
+        this.likeCountersPublisher = likeCountersPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+        this.maxSize = maxSize;
+        this.fullBufferTimeout = fullBufferTimeout;
+        this.bufferSlots = new Semaphore(maxSize);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public String getPendingVersion(Collection<Long> reviewsIds) {
+        if (!enabled || pendingCounters.isEmpty()) {
+            return "";
+        }
+        final StringJoiner pendingVersion = new StringJoiner(",");
+        reviewsIds.stream()
+                .distinct()
+                .sorted()
+                .forEach(reviewId -> {
+                    final LikeDto pending = pendingCounters.get(reviewId);
+                    if (pending != null) {
+                        pendingVersion.add(reviewId + ":" + pending.numbersOfLikes() + ":"
+                                + pending.numbersOfDislikes());
+                    }
+                });
+        return pendingVersion.toString();
+    }
+
+    public String getEventPendingVersion(Long eventId) {
+        if (!enabled) {
+            return "";
+        }
+        final Long votes = pendingEventsVotes.get(eventId);
+        return votes == null ? "" : eventId + ":" + votes;
+    }
+
+    public ReviewDto addLikeOrDislike(Long reviewId, Long userId, boolean isPositive) {
+        return vote(reviewId, userId, currentVote -> {
+            if (currentVote == null) {
+                return isPositive;
+            }
+            return currentVote == isPositive ? currentVote : null;
+        });
+    }
+
+    public ReviewDto deleteLikeOrDislike(Long reviewId, Long userId, boolean isPositive) {
+        return vote(reviewId, userId, currentVote -> {
+            if (currentVote == null) {
+                throw new NotFoundException(String.format("Like with userId '%s' and reviewId '%s' was not found",
+                        userId, reviewId));
+            }
+            return currentVote == isPositive ? null : currentVote;
+        });
+    }
+
+    public LikeDto getLikesAndDislikesByReviewId(Long reviewId) {
+        lock.readLock().lock();
+        try {
+            return withPendingCounters(reviewId, likeRepository.getLikesAndDislikesByReviewId(reviewId).orElse(null));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public Map<Long, LikeDto> getLikesAndDislikesByReviewsIds(List<Long> reviewsIds) {
+        lock.readLock().lock();
+        try {
+            final Map<Long, LikeDto> counters = likeRepository.getLikesAndDislikesByReviewsIds(reviewsIds);
+            if (pendingCounters.isEmpty()) {
+                return counters;
+            }
+            final Map<Long, LikeDto> result = new HashMap<>();
+            for (Long reviewId : reviewsIds) {
+                final LikeDto reviewCounters = withPendingCounters(reviewId, counters.get(reviewId));
+                if (reviewCounters != null) {
+                    result.put(reviewId, reviewCounters);
+                }
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public List<ReviewDto> getReviewsWithPendingCounters(Supplier<List<ReviewDto>> reviewsQuery) {
+        lock.readLock().lock();
+        try {
+            final List<ReviewDto> reviews = reviewsQuery.get();
+            if (pendingCounters.isEmpty()) {
+                return reviews;
+            }
+            return reviews.stream()
+                    .map(review -> pendingCounters.containsKey(review.id())
+                            ? withCounters(review, withPendingCounters(review.id(), LikeDto.builder()
+                                    .reviewId(review.id())
+                                    .numbersOfLikes(review.numberOfLikes())
+                                    .numbersOfDislikes(review.numberOfDislikes())
+                                    .build()))
+                            : review)
+                    .toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.likes.write-behind.flush-interval}")
+    public void flush() {
+        try {
+            flushPendingVotes();
+        } catch (RuntimeException e) {
+            log.error("Failed to flush '{}' buffered votes, will retry", pendingVotes.size(), e);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flushExecutor.shutdown();
+        flush();
+    }
+
+    private ReviewDto vote(Long reviewId, Long userId, UnaryOperator<Boolean> change) {
+        for (int attempt = 0; ; attempt++) {
+            final ReviewDto review = tryVote(reviewId, userId, change);
+            if (review != null) {
+                return review;
+            }
+            if (attempt > 0) {
+                throw bufferIsFull();
+            }
+            awaitFlush();
+        }
+    }
+
+    private ReviewDto tryVote(Long reviewId, Long userId, UnaryOperator<Boolean> change) {
+        lock.readLock().lock();
+        try {
+            final ReviewVoteState state = likeRepository.getReviewWithUserVote(reviewId, userId)
+                    .orElseThrow(() -> new NotFoundException(String.format("Review with id '%s' was not found",
+                            reviewId)));
+            if (state.authorId().equals(userId)) {
+                throw new NotAuthorizedException(String.format("User with id '%s' is not authorized to add " +
+                        "like/dislike review with id '%s'", userId, reviewId));
+            }
+            final AtomicBoolean rejected = new AtomicBoolean();
+            pendingVotes.compute(new VoteKey(userId, reviewId), (key, bufferedVote) -> {
+                final Boolean persistedVote = bufferedVote == null ? state.userVote() : bufferedVote.persistedVote();
+                final Boolean currentVote = bufferedVote == null ? state.userVote() : bufferedVote.vote();
+                final Boolean newVote = change.apply(currentVote);
+                final BufferedVote result = Objects.equals(newVote, persistedVote)
+                        ? null
+                        : new BufferedVote(persistedVote, newVote);
+                if (bufferedVote == null && result != null && !bufferSlots.tryAcquire()) {
+                    rejected.set(true);
+                    return null;
+                }
+                if (bufferedVote != null && result == null) {
+                    bufferSlots.release();
+                }
+                addPendingCounters(state.review().eventId(), reviewId, likes(newVote) - likes(currentVote),
+                        dislikes(newVote) - dislikes(currentVote));
+                return result;
+            });
+            if (rejected.get()) {
+                return null;
+            }
+            final LikeDto counters = withPendingCounters(reviewId, LikeDto.builder()
+                    .reviewId(reviewId)
+                    .numbersOfLikes(state.review().numberOfLikes())
+                    .numbersOfDislikes(state.review().numberOfDislikes())
+                    .build());
+            return withCounters(state.review(), counters);
+        } finally {
+            lock.readLock().unlock();
+            requestFlushIfBatchIsFull();
+        }
+    }
+
+    private void awaitFlush() {
+        log.warn("Vote buffer is full, waiting for flush of '{}' votes", pendingVotes.size());
+        try {
+            flushExecutor.submit(this::flushPendingVotes)
+                    .get(fullBufferTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw bufferIsFull();
+        } catch (ExecutionException | TimeoutException | RejectedExecutionException e) {
+            log.warn("Failed to flush full vote buffer", e);
+            throw bufferIsFull();
+        }
+    }
+
+    private TooManyRequestsException bufferIsFull() {
+        return new TooManyRequestsException("Too many pending votes, try again later");
+    }
+
+    private void flushPendingVotes() {
+        if (pendingVotes.isEmpty()) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            if (pendingVotes.isEmpty()) {
+                return;
+            }
+            final List<PendingVote> votes = pendingVotes.entrySet().stream()
+                    .map(entry -> new PendingVote(entry.getKey().userId(), entry.getKey().reviewId(),
+                            entry.getValue().vote()))
+                    .toList();
+            final Set<Long> reviewsIds = votes.stream()
+                    .map(PendingVote::reviewId)
+                    .collect(Collectors.toSet());
+            transactionTemplate.executeWithoutResult(status -> {
+                likeRepository.saveVotes(votes, batchSize);
+                likeRepository.recalculateLikesAndDislikesCounters(reviewsIds)
+                        .forEach(change -> likeCountersPublisher.publish(change.review(), change.likesDelta(),
+                                change.dislikesDelta()));
+            });
+            pendingVotes.clear();
+            pendingCounters.clear();
+            pendingEventsVotes.clear();
+            bufferSlots.drainPermits();
+            bufferSlots.release(maxSize);
+            log.info("'{}' buffered votes were flushed for '{}' reviews", votes.size(), reviewsIds.size());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void requestFlushIfBatchIsFull() {
+        if (pendingVotes.size() < batchSize || !flushRequested.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            flushExecutor.execute(() -> {
+                try {
+                    flush();
+                } finally {
+                    flushRequested.set(false);
+                }
+            });
+        } catch (RuntimeException e) {
+            flushRequested.set(false);
+            log.warn("Failed to schedule flush of buffered votes", e);
+        }
+    }
+
+    private void addPendingCounters(Long eventId, Long reviewId, long likesDelta, long dislikesDelta) {
+        if (likesDelta == 0 && dislikesDelta == 0) {
+            return;
+        }
+        pendingEventsVotes.merge(eventId, 1L, Long::sum);
+        pendingCounters.merge(reviewId, new LikeDto(reviewId, likesDelta, dislikesDelta), (current, delta) -> {
+            final long likes = current.numbersOfLikes() + delta.numbersOfLikes();
+            final long dislikes = current.numbersOfDislikes() + delta.numbersOfDislikes();
+            return likes == 0 && dislikes == 0 ? null : new LikeDto(reviewId, likes, dislikes);
+        });
+    }
+
+    private LikeDto withPendingCounters(Long reviewId, LikeDto counters) {
+        final LikeDto pending = pendingCounters.get(reviewId);
+        if (pending == null) {
+            return counters;
+        }
+        final long likes = (counters == null ? 0 : counters.numbersOfLikes()) + pending.numbersOfLikes();
+        final long dislikes = (counters == null ? 0 : counters.numbersOfDislikes()) + pending.numbersOfDislikes();
+        if (likes == 0 && dislikes == 0) {
+            return null;
+        }
+        return new LikeDto(reviewId, likes, dislikes);
+    }
+
+    private ReviewDto withCounters(ReviewDto review, LikeDto counters) {
+        return ReviewDto.builder()
+                .id(review.id())
+                .title(review.title())
+                .content(review.content())
+                .username(review.username())
+                .mark(review.mark())
+                .eventId(review.eventId())
+                .createdDateTime(review.createdDateTime())
+                .updatedDateTime(review.updatedDateTime())
+                .numberOfLikes(counters == null ? 0 : counters.numbersOfLikes())
+                .numberOfDislikes(counters == null ? 0 : counters.numbersOfDislikes())
+                .build();
+    }
+
+    private static long likes(Boolean vote) {
+        return Boolean.TRUE.equals(vote) ? 1 : 0;
+    }
+
+    private static long dislikes(Boolean vote) {
+        return Boolean.FALSE.equals(vote) ? 1 : 0;
+    }
+
+    private record VoteKey(Long userId, Long reviewId) {
+    }
+
+    private record BufferedVote(Boolean persistedVote, Boolean vote) {
+    }
+}
@@ -0,0 +1,26 @@
+package ru.mssecondteam.reviewservice.service.stats;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import ru.mssecondteam.reviewservice.repository.stats.EventReviewStatsRepository;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class EventReviewStatsInitializer {
+
+    private final EventReviewStatsRepository eventReviewStatsRepository;
+
+    private final StatsService statsService;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillEventStatsIfEmpty() {
+        if (eventReviewStatsRepository.isEmpty()) {
+            log.info("Review stats are empty, backfilling from reviews");
+            statsService.rebuildEventStats();
+        }
+    }
+}
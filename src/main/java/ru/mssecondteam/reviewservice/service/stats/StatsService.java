@@ -1,11 +1,33 @@
 package ru.mssecondteam.reviewservice.service.stats;
 
 import ru.mssecondteam.reviewservice.dto.EventReviewStats;
+import ru.mssecondteam.reviewservice.dto.LikeDto;
+import ru.mssecondteam.reviewservice.dto.ReviewDto;
 import ru.mssecondteam.reviewservice.dto.UserReviewStats;
+import ru.mssecondteam.reviewservice.model.Review;
+
+import java.util.List;
+import java.util.Map;
 
 public interface StatsService {
 
     EventReviewStats getEventReviewsStats(Long eventId);
 
+    Map<Long, EventReviewStats> getEventsReviewsStats(List<Long> eventIds);
+
     UserReviewStats getUserReviewsStats(Long userId);
+
+    void updateEventStatsOnReviewCreated(Review review);
+
+    void updateEventStatsOnReviewsCreated(List<Review> reviews);
+
+    void updateEventStatsOnReviewUpdated(Long reviewId, int oldMark, int newMark);
+
+    void updateEventStatsOnReviewDeleted(Long reviewId);
+
+    void updateEventStatsOnVote(ReviewDto review, LikeDto previousCounters, LikeDto currentCounters);
+
+    int rebuildEventStats();
+
+    List<Long> findInconsistentEventStats();
 }
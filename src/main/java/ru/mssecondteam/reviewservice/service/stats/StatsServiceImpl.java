@@ -4,11 +4,21 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import ru.mssecondteam.reviewservice.dto.EventReviewStats;
+import ru.mssecondteam.reviewservice.dto.LikeDto;
+import ru.mssecondteam.reviewservice.dto.ReviewDto;
 import ru.mssecondteam.reviewservice.dto.UserReviewStats;
+import ru.mssecondteam.reviewservice.exception.ValidationException;
+import ru.mssecondteam.reviewservice.model.Review;
+import ru.mssecondteam.reviewservice.repository.stats.EventReviewStatsRepository;
 import ru.mssecondteam.reviewservice.repository.stats.StatsRepository;
+import ru.mssecondteam.reviewservice.repository.version.ReviewVersionRepository;
 
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -17,25 +27,100 @@ public class StatsServiceImpl implements StatsService {
 
     private final StatsRepository statsRepository;
 
+    private final EventReviewStatsRepository eventReviewStatsRepository;
+
+    private final ReviewVersionRepository reviewVersionRepository;
+
     @Value("${app.min-number-of-likes}")
     private Integer minNumberOfLikes;
 
     @Value("${app.min-positive-mark}")
     private Integer minPositiveMark;
 
+    @Value("${app.events-stats-batch.max-size}")
+    private Integer eventsStatsMaxSize;
+
     @Override
     public EventReviewStats getEventReviewsStats(Long eventId) {
-        final List<Long> reviewsIds = statsRepository.getReviewsIdsForEventStats(minNumberOfLikes, eventId);
-        EventReviewStats eventStats = statsRepository.getReviewStatsForEvent(eventId, minPositiveMark, reviewsIds);
+        EventReviewStats eventStats = eventReviewStatsRepository.getEventReviewStats(eventId);
         log.info("Acquired review stats for event with id '{}'", eventId);
         return eventStats;
     }
 
+    @Override
+    public Map<Long, EventReviewStats> getEventsReviewsStats(List<Long> eventIds) {
+        if (eventIds.isEmpty() || eventIds.size() > eventsStatsMaxSize) {
+            throw new ValidationException(String.format("Number of event ids must be between 1 and %s",
+                    eventsStatsMaxSize));
+        }
+        Map<Long, EventReviewStats> eventsStats = eventReviewStatsRepository.getEventsReviewStats(
+                new HashSet<>(eventIds));
+        log.info("Acquired review stats for '{}' of '{}' events", eventsStats.size(), eventIds.size());
+        return eventsStats;
+    }
+
     @Override
     public UserReviewStats getUserReviewsStats(Long userId) {
-        final List<Long> reviewsIds = statsRepository.getReviewsIdsForUserStats(minNumberOfLikes, userId);
-        UserReviewStats userStats = statsRepository.getReviewStatsForUser(userId, minPositiveMark, reviewsIds);
+        UserReviewStats userStats = statsRepository.getReviewStatsForUser(userId, minPositiveMark, minNumberOfLikes);
         log.info("Acquired review stats for user with id '{}'", userId);
         return userStats;
     }
+
+    @Override
+    public void updateEventStatsOnReviewCreated(Review review) {
+        eventReviewStatsRepository.addReview(review.getEventId(), review.getMark(), minPositiveMark);
+    }
+
+    @Override
+    public void updateEventStatsOnReviewsCreated(List<Review> reviews) {
+        reviews.stream()
+                .collect(Collectors.groupingBy(Review::getEventId,
+                        Collectors.mapping(Review::getMark, Collectors.toList())))
+                .forEach((eventId, marks) -> eventReviewStatsRepository.addReviews(eventId, marks, minPositiveMark));
+    }
+
+    @Override
+    public void updateEventStatsOnReviewUpdated(Long reviewId, int oldMark, int newMark) {
+        if (oldMark != newMark) {
+            eventReviewStatsRepository.updateReviewMark(reviewId, oldMark, newMark, minPositiveMark, minNumberOfLikes);
+        }
+    }
+
+    @Override
+    public void updateEventStatsOnReviewDeleted(Long reviewId) {
+        eventReviewStatsRepository.removeReview(reviewId, minPositiveMark, minNumberOfLikes);
+    }
+
+    @Override
+    public void updateEventStatsOnVote(ReviewDto review, LikeDto previousCounters, LikeDto currentCounters) {
+        final boolean wasEligible = isEligibleForAvgMark(previousCounters);
+        final boolean isEligible = isEligibleForAvgMark(currentCounters);
+        if (wasEligible != isEligible) {
+            eventReviewStatsRepository.updateEligibleReviews(review.eventId(), review.mark(), isEligible ? 1 : -1);
+            reviewVersionRepository.incrementEventsVersions(List.of(review.eventId()));
+        }
+    }
+
+    @Override
+    @Transactional
+    public int rebuildEventStats() {
+        final int rebuiltEvents = eventReviewStatsRepository.rebuild(minPositiveMark, minNumberOfLikes);
+        reviewVersionRepository.incrementAllEventsVersions();
+        log.info("Review stats were rebuilt for '{}' events", rebuiltEvents);
+        return rebuiltEvents;
+    }
+
+    @Override
+    public List<Long> findInconsistentEventStats() {
+        final List<Long> eventIds = eventReviewStatsRepository.findInconsistentEventIds(minPositiveMark, minNumberOfLikes);
+        if (!eventIds.isEmpty()) {
+            log.warn("Review stats are inconsistent for events with ids '{}'", eventIds);
+        }
+        return eventIds;
+    }
+
+    private boolean isEligibleForAvgMark(LikeDto counters) {
+        return counters.numbersOfDislikes() <= counters.numbersOfLikes()
+                && counters.numbersOfLikes() + counters.numbersOfDislikes() <= minNumberOfLikes;
+    }
 }
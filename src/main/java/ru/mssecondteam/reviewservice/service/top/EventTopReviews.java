@@ -0,0 +1,47 @@
+package ru.mssecondteam.reviewservice.service.top;
+
+import ru.mssecondteam.reviewservice.dto.ReviewDto;
+import ru.mssecondteam.reviewservice.dto.TopReviewsDto;
+
+class EventTopReviews {
+
+    private final RankedReviews bestReviews;
+
+    private final RankedReviews worstReviews;
+
+    private final long expiresAt;
+
+    private final String version;
+
+    private boolean valid = true;
+
+    EventTopReviews(TopReviewsDto topReviews, int limit, long expiresAt, String version) {
+        this.bestReviews = new RankedReviews(topReviews.bestReviews(), RankedReviews.BEST_FIRST, limit);
+        this.worstReviews = new RankedReviews(topReviews.worstReviews(), RankedReviews.WORST_FIRST, limit);
+        this.expiresAt = expiresAt;
+        this.version = version;
+    }
+
+    synchronized TopReviewsDto getTopReviews(long now, String expectedVersion) {
+        if (!valid || now >= expiresAt
+                || (expectedVersion != null && !expectedVersion.equals(version))) {
+            return null;
+        }
+        return new TopReviewsDto(bestReviews.toList(), worstReviews.toList());
+    }
+
+    synchronized boolean addReview(ReviewDto review) {
+        valid = valid && bestReviews.add(review) && worstReviews.add(review);
+        return valid;
+    }
+
+    synchronized boolean updateReview(ReviewDto review) {
+        valid = valid && bestReviews.update(review) && worstReviews.update(review);
+        return valid;
+    }
+
+    synchronized boolean removeReview(Long reviewId) {
+        valid = valid && bestReviews.remove(reviewId) && worstReviews.remove(reviewId);
+        return valid;
+    }
+}
@@ -0,0 +1,95 @@
+package ru.mssecondteam.reviewservice.service.top;
+
+import ru.mssecondteam.reviewservice.dto.ReviewDto;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+class RankedReviews {
+
+    static final Comparator<ReviewDto> BEST_FIRST = Comparator.comparingLong(RankedReviews::score).reversed()
+            .thenComparing(ReviewDto::id);
+
+    static final Comparator<ReviewDto> WORST_FIRST = Comparator.comparingLong(RankedReviews::score)
+            .thenComparing(ReviewDto::id);
+
+    private final List<ReviewDto> reviews;
+
+    private final Comparator<ReviewDto> order;
+
+    private final int limit;
+
+    RankedReviews(List<ReviewDto> reviews, Comparator<ReviewDto> order, int limit) {
+        this.reviews = new ArrayList<>(limit);
+        this.reviews.addAll(reviews);
+        this.order = order;
+        this.limit = limit;
+    }
+
+    boolean add(ReviewDto review) {
+        if (indexOf(review.id()) >= 0) {
+            return update(review);
+        }
+        if (!isFull()) {
+            insert(review);
+        } else if (!reviews.isEmpty() && order.compare(review, reviews.get(reviews.size() - 1)) < 0) {
+            reviews.remove(reviews.size() - 1);
+            insert(review);
+        }
+        return true;
+    }
+
+    boolean update(ReviewDto review) {
+        final int index = indexOf(review.id());
+        if (index < 0) {
+            if (!isFull()) {
+                return false;
+            }
+            return add(review);
+        }
+        final ReviewDto previous = reviews.set(index, review);
+        reviews.sort(order);
+        final boolean isLast = reviews.get(reviews.size() - 1).id().equals(review.id());
+        return !(isFull() && isLast && order.compare(review, previous) > 0);
+    }
+
+    boolean remove(Long reviewId) {
+        final int index = indexOf(reviewId);
+        if (index < 0) {
+            return true;
+        }
+        if (isFull()) {
+            return false;
+        }
+        reviews.remove(index);
+        return true;
+    }
+
+    List<ReviewDto> toList() {
+        return List.copyOf(reviews);
+    }
+
+    private boolean isFull() {
+        return reviews.size() >= limit;
+    }
+
+    private void insert(ReviewDto review) {
+        final int position = Collections.binarySearch(reviews, review, order);
+        reviews.add(position < 0 ? -position - 1 : position, review);
+    }
+
+    private int indexOf(Long reviewId) {
+        for (int i = 0; i < reviews.size(); i++) {
+            if (reviews.get(i).id().equals(reviewId)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static long score(ReviewDto review) {
+        return review.numberOfLikes() - review.numberOfDislikes();
+    }
+}
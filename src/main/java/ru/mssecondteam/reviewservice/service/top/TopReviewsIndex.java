@@ -0,0 +1,142 @@
+package ru.mssecondteam.reviewservice.service.top;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import ru.mssecondteam.reviewservice.dto.ReviewDto;
+import ru.mssecondteam.reviewservice.dto.TopReviewsDto;
+import ru.mssecondteam.reviewservice.mapper.ReviewMapper;
+import ru.mssecondteam.reviewservice.model.Review;
+import ru.mssecondteam.reviewservice.repository.ReviewRepository;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Predicate;
+
+@Component
+@Slf4j
+public class TopReviewsIndex {
+
+    private static final int VERSION_STRIPES = 64;
+
+    private final ReviewRepository reviewRepository;
+
+    private final ReviewMapper reviewMapper;
+
+    private final int topReviewsLimit;
+
+    private final long ttlMillis;
+
+    private final Map<Long, EventTopReviews> events;
+
+    private final AtomicLongArray versions = new AtomicLongArray(VERSION_STRIPES);
+
+    public TopReviewsIndex(ReviewRepository reviewRepository,
+                           ReviewMapper reviewMapper,
+                           @Value("${app.top-reviews-limit}") int topReviewsLimit,
+                           @Value("${app.top-reviews-index.max-events}") int maxEvents,
+                           @Value("${app.top-reviews-index.ttl}") Duration ttl) {
+        this.reviewRepository = reviewRepository;
+        this.reviewMapper = reviewMapper;
+        this.topReviewsLimit = topReviewsLimit;
+        this.ttlMillis = ttl.toMillis();
+        this.events = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, EventTopReviews> eldest) {
+                return size() > maxEvents;
+            }
+        });
+    }
+
+    public TopReviewsDto getTopReviews(Long eventId) {
+        return getTopReviews(eventId, null);
+    }
+
+    public TopReviewsDto getTopReviews(Long eventId, String version) {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            return reviewRepository.getTopReviewsForEvent(eventId, topReviewsLimit);
+        }
+        final long now = System.currentTimeMillis();
+        final EventTopReviews eventTopReviews = events.get(eventId);
+        final TopReviewsDto cachedTopReviews = eventTopReviews == null ? null : eventTopReviews.getTopReviews(now, version);
+        if (cachedTopReviews != null) {
+            return cachedTopReviews;
+        }
+        final long stripeVersion = versions.get(stripe(eventId));
+        final TopReviewsDto topReviews = reviewRepository.getTopReviewsForEvent(eventId, topReviewsLimit);
+        synchronized (events) {
+            if (versions.get(stripe(eventId)) == stripeVersion) {
+                events.put(eventId, new EventTopReviews(topReviews, topReviewsLimit, now + ttlMillis, version));
+            }
+        }
+        log.debug("Top reviews for event with id '{}' were loaded into index", eventId);
+        return topReviews;
+    }
+
+    public void onReviewCreated(Review review) {
+        final ReviewDto reviewDto = reviewMapper.toDtoWithLikes(review, null);
+        afterCommit(() -> apply(review.getEventId(), topReviews -> topReviews.addReview(reviewDto)));
+    }
+
+    public void onReviewUpdated(Review review) {
+        afterCommit(() -> apply(review.getEventId(), topReviews -> false));
+    }
+
+    public void onReviewDeleted(Review review) {
+        final Long reviewId = review.getId();
+        afterCommit(() -> apply(review.getEventId(), topReviews -> topReviews.removeReview(reviewId)));
+    }
+
+    public void onVote(ReviewDto review) {
+        afterCommit(() -> apply(review.eventId(), topReviews -> topReviews.updateReview(review)));
+    }
+
+    public void evict(Long eventId) {
+        afterCommit(() -> apply(eventId, topReviews -> false));
+    }
+
+    public void evictAll() {
+        afterCommit(() -> {
+            synchronized (events) {
+                for (int i = 0; i < VERSION_STRIPES; i++) {
+                    versions.incrementAndGet(i);
+                }
+                events.clear();
+            }
+            log.info("Top reviews index was cleared");
+        });
+    }
+
+    private void apply(Long eventId, Predicate<EventTopReviews> change) {
+        synchronized (events) {
+            versions.incrementAndGet(stripe(eventId));
+            final EventTopReviews eventTopReviews = events.get(eventId);
+            if (eventTopReviews != null && !change.test(eventTopReviews)) {
+                events.remove(eventId);
+                log.debug("Top reviews for event with id '{}' were evicted from index", eventId);
+            }
+        }
+    }
+
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    private int stripe(Long eventId) {
+        return Long.hashCode(eventId) & (VERSION_STRIPES - 1);
+    }
+}
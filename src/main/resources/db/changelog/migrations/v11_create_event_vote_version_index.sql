@@ -0,0 +1 @@
+CREATE INDEX CONCURRENTLY IF NOT EXISTS reviews_event_id_vote_version_idx ON reviews (event_id, vote_version);
@@ -0,0 +1,19 @@
+DELETE FROM likes l
+USING likes d
+WHERE l.user_id = d.user_id
+  AND l.review_id = d.review_id
+  AND l.like_id > d.like_id;
+
+UPDATE reviews r
+SET number_of_likes = c.likes,
+    number_of_dislikes = c.dislikes
+FROM (SELECT r2.review_id,
+             COUNT(CASE WHEN l.is_positive = TRUE THEN 1 END) AS likes,
+             COUNT(CASE WHEN l.is_positive = FALSE THEN 1 END) AS dislikes
+      FROM reviews r2
+      LEFT JOIN likes l ON l.review_id = r2.review_id
+      GROUP BY r2.review_id) c
+WHERE r.review_id = c.review_id
+  AND (r.number_of_likes <> c.likes OR r.number_of_dislikes <> c.dislikes);
+
+DELETE FROM event_review_stats;
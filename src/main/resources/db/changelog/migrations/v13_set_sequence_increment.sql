@@ -0,0 +1,3 @@
+ALTER SEQUENCE reviews_seq INCREMENT BY ${id.increment};
+
+ALTER SEQUENCE likes_seq INCREMENT BY ${id.increment};
@@ -0,0 +1,13 @@
+ALTER TABLE reviews ADD COLUMN IF NOT EXISTS number_of_likes BIGINT NOT NULL DEFAULT 0;
+
+ALTER TABLE reviews ADD COLUMN IF NOT EXISTS number_of_dislikes BIGINT NOT NULL DEFAULT 0;
+
+UPDATE reviews r
+SET number_of_likes = c.likes,
+    number_of_dislikes = c.dislikes
+FROM (SELECT review_id,
+             COUNT(CASE WHEN is_positive = TRUE THEN 1 END) AS likes,
+             COUNT(CASE WHEN is_positive = FALSE THEN 1 END) AS dislikes
+      FROM likes
+      GROUP BY review_id) c
+WHERE r.review_id = c.review_id;
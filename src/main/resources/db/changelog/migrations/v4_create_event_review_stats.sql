@@ -0,0 +1,8 @@
+CREATE TABLE IF NOT EXISTS event_review_stats (
+    event_id BIGINT NOT NULL PRIMARY KEY,
+    total_reviews BIGINT NOT NULL DEFAULT 0,
+    positive_reviews BIGINT NOT NULL DEFAULT 0,
+    negative_reviews BIGINT NOT NULL DEFAULT 0,
+    eligible_reviews BIGINT NOT NULL DEFAULT 0,
+    eligible_marks_sum BIGINT NOT NULL DEFAULT 0
+);
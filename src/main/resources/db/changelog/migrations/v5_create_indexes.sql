@@ -0,0 +1,27 @@
+DELETE FROM likes l
+USING likes d
+WHERE l.user_id = d.user_id
+  AND l.review_id = d.review_id
+  AND l.like_id > d.like_id;
+
+UPDATE reviews r
+SET number_of_likes = c.likes,
+    number_of_dislikes = c.dislikes
+FROM (SELECT r2.review_id,
+             COUNT(CASE WHEN l.is_positive = TRUE THEN 1 END) AS likes,
+             COUNT(CASE WHEN l.is_positive = FALSE THEN 1 END) AS dislikes
+      FROM reviews r2
+      LEFT JOIN likes l ON l.review_id = r2.review_id
+      GROUP BY r2.review_id) c
+WHERE r.review_id = c.review_id
+  AND (r.number_of_likes <> c.likes OR r.number_of_dislikes <> c.dislikes);
+
+DELETE FROM event_review_stats;
+
+ALTER TABLE likes ADD CONSTRAINT likes_user_id_review_id_uq UNIQUE (user_id, review_id);
+
+CREATE INDEX IF NOT EXISTS likes_review_id_is_positive_idx ON likes (review_id, is_positive);
+
+CREATE INDEX IF NOT EXISTS reviews_event_id_created_at_idx ON reviews (event_id, created_at, review_id);
+
+CREATE INDEX IF NOT EXISTS reviews_author_id_idx ON reviews (author_id);
@@ -0,0 +1,15 @@
+ALTER TABLE reviews ALTER COLUMN review_id DROP IDENTITY IF EXISTS;
+
+CREATE SEQUENCE IF NOT EXISTS reviews_seq OWNED BY reviews.review_id;
+
+SELECT setval('reviews_seq', COALESCE((SELECT MAX(review_id) FROM reviews), 0) + 1, false);
+
+ALTER TABLE reviews ALTER COLUMN review_id SET DEFAULT nextval('reviews_seq');
+
+ALTER TABLE likes ALTER COLUMN like_id DROP IDENTITY IF EXISTS;
+
+CREATE SEQUENCE IF NOT EXISTS likes_seq OWNED BY likes.like_id;
+
+SELECT setval('likes_seq', COALESCE((SELECT MAX(like_id) FROM likes), 0) + 1, false);
+
+ALTER TABLE likes ALTER COLUMN like_id SET DEFAULT nextval('likes_seq');
@@ -0,0 +1,3 @@
+ALTER SEQUENCE reviews_seq INCREMENT BY ${idAllocationSize};
+
+ALTER SEQUENCE likes_seq INCREMENT BY ${idAllocationSize};
@@ -0,0 +1,13 @@
+CREATE SEQUENCE IF NOT EXISTS review_versions_seq;
+
+ALTER TABLE reviews ADD COLUMN IF NOT EXISTS vote_version BIGINT NOT NULL DEFAULT 0;
+
+CREATE TABLE IF NOT EXISTS event_review_versions (
+    event_id BIGINT NOT NULL PRIMARY KEY,
+    version BIGINT NOT NULL
+);
+
+INSERT INTO event_review_versions (event_id, version)
+SELECT e.event_id, nextval('review_versions_seq')
+FROM (SELECT DISTINCT event_id FROM reviews) e
+ON CONFLICT (event_id) DO NOTHING;
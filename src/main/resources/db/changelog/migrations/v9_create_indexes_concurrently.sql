@@ -0,0 +1,7 @@
+CREATE UNIQUE INDEX CONCURRENTLY IF NOT EXISTS likes_user_id_review_id_uq ON likes (user_id, review_id);
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS likes_review_id_is_positive_idx ON likes (review_id, is_positive);
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS reviews_event_id_created_at_idx ON reviews (event_id, created_at, review_id);
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS reviews_author_id_idx ON reviews (author_id);
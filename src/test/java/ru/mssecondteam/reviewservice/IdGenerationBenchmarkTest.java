@@ -0,0 +1,150 @@
+package ru.mssecondteam.reviewservice;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import ru.mssecondteam.reviewservice.model.PendingVote;
+import ru.mssecondteam.reviewservice.model.Review;
+import ru.mssecondteam.reviewservice.repository.ReviewRepository;
+import ru.mssecondteam.reviewservice.repository.like.LikeRepository;
+import ru.mssecondteam.reviewservice.service.like.LikeService;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+
+@Testcontainers
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class IdGenerationBenchmarkTest {
+
+    private static final long AUTHOR_ID = 1L;
+
+    @Container
+    private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @BeforeAll
+    static void beforeAll() {
+        POSTGRES.start();
+    }
+
+    @AfterAll
+    static void afterAll() {
+        POSTGRES.stop();
+    }
+
+    @Test
+    @DisplayName("Review and vote insert throughput with different id allocation sizes")
+    void insert_withDifferentAllocationSizes_shouldReportThroughput() throws SQLException {
+        final List<Integer> allocationSizes = Arrays.stream(System.getProperty("benchmark.allocation-sizes",
+                        "1,50").split(","))
+                .map(String::trim)
+                .map(Integer::valueOf)
+                .toList();
+        final int singleInserts = Integer.getInteger("benchmark.single-inserts", 2000);
+        final int bulkInserts = Integer.getInteger("benchmark.bulk-inserts", 20000);
+        final int bulkSize = Integer.getInteger("benchmark.bulk-size", 500);
+        final List<String> report = new ArrayList<>();
+
+        startApplication(true).close();
+        for (int allocationSize : allocationSizes) {
+            setSequencesIncrement(allocationSize);
+            try (ConfigurableApplicationContext context = startApplication(false)) {
+                final ReviewRepository reviewRepository = context.getBean(ReviewRepository.class);
+                final LikeRepository likeRepository = context.getBean(LikeRepository.class);
+                final LikeService likeService = context.getBean(LikeService.class);
+                final TransactionTemplate transactionTemplate = context.getBean(TransactionTemplate.class);
+
+                report.add(measure(allocationSize, "single reviews", singleInserts, () ->
+                        IntStream.range(0, singleInserts).forEach(i -> reviewRepository.save(review(i)))));
+
+                report.add(measure(allocationSize, "bulk reviews", bulkInserts, () -> {
+                    for (int from = 0; from < bulkInserts; from += bulkSize) {
+                        final List<Review> reviews = IntStream.range(from, Math.min(from + bulkSize, bulkInserts))
+                                .mapToObj(this::review)
+                                .toList();
+                        transactionTemplate.executeWithoutResult(status -> reviewRepository.saveAll(reviews));
+                    }
+                }));
+
+                final Long reviewId = reviewRepository.save(review(0)).getId();
+                report.add(measure(allocationSize, "single votes", singleInserts, () ->
+                        IntStream.range(0, singleInserts).forEach(i ->
+                                likeService.addLikeOrDislike(reviewId, AUTHOR_ID + 1 + i, true))));
+
+                final Long bulkReviewId = reviewRepository.save(review(0)).getId();
+                report.add(measure(allocationSize, "bulk votes", bulkInserts, () -> {
+                    for (int from = 0; from < bulkInserts; from += bulkSize) {
+                        final List<PendingVote> votes = IntStream.range(from, Math.min(from + bulkSize, bulkInserts))
+                                .mapToObj(i -> new PendingVote(AUTHOR_ID + 1 + i, bulkReviewId, i % 2 == 0))
+                                .toList();
+                        transactionTemplate.executeWithoutResult(status -> likeRepository.saveVotes(votes,
+                                bulkSize));
+                    }
+                }));
+
+                assertThat(likeRepository.count(), greaterThanOrEqualTo((long) singleInserts + bulkInserts));
+            }
+        }
+
+        report.forEach(System.out::println);
+    }
+
+    private void setSequencesIncrement(int allocationSize) throws SQLException {
+        try (Connection connection = DriverManager.getConnection(POSTGRES.getJdbcUrl(), POSTGRES.getUsername(),
+                POSTGRES.getPassword());
+             Statement statement = connection.createStatement()) {
+            statement.execute("ALTER SEQUENCE reviews_seq INCREMENT BY " + allocationSize);
+            statement.execute("ALTER SEQUENCE likes_seq INCREMENT BY " + allocationSize);
+        }
+    }
+
+    private ConfigurableApplicationContext startApplication(boolean migrate) {
+        final Map<String, Object> properties = new HashMap<>();
+        properties.put("spring.main.web-application-type", "none");
+        properties.put("spring.liquibase.enabled", migrate);
+        properties.put("spring.datasource.url", POSTGRES.getJdbcUrl());
+        properties.put("spring.datasource.username", POSTGRES.getUsername());
+        properties.put("spring.datasource.password", POSTGRES.getPassword());
+        properties.put("logging.level.root", "WARN");
+        return new SpringApplicationBuilder(ReviewServiceApplication.class)
+                .properties(properties)
+                .run();
+    }
+
+    private String measure(int allocationSize, String operation, int rows, Runnable insert) {
+        final long start = System.nanoTime();
+        insert.run();
+        final double seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+        return String.format("allocation-size=%-4d %-15s rows=%-7d throughput=%.1f rows/s", allocationSize,
+                operation, rows, rows / seconds);
+    }
+
+    private Review review(int i) {
+        return Review.builder()
+                .title("Benchmark review")
+                .content("Benchmark content " + i)
+                .authorId(AUTHOR_ID)
+                .username("benchmark_user")
+                .mark(i % 10 + 1)
+                .eventId((long) i % 100 + 1)
+                .build();
+    }
+}
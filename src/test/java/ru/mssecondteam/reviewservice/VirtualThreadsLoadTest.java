@@ -0,0 +1,165 @@
+package ru.mssecondteam.reviewservice;
+
+import com.github.tomakehurst.wiremock.WireMockServer;
+import com.github.tomakehurst.wiremock.client.ResponseDefinitionBuilder;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlPathMatching;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.options;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
+
+@Testcontainers
+@EnabledIfSystemProperty(named = "load-test", matches = "true")
+class VirtualThreadsLoadTest {
+
+    private static final long USER_ID = 2L;
+
+    private static final String NEW_REVIEW = "{\"title\": \"Load test\", \"content\": \"Load test review\", " +
+            "\"username\": \"load_user\", \"mark\": 7, \"eventId\": 1}";
+
+    @Container
+    private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    private static WireMockServer wireMockServer;
+
+    @BeforeAll
+    static void beforeAll() {
+        POSTGRES.start();
+        wireMockServer = new WireMockServer(options()
+                .dynamicPort()
+                .containerThreads(200)
+                .asynchronousResponseEnabled(true)
+                .asynchronousResponseThreads(50));
+        wireMockServer.start();
+        final int delay = Integer.getInteger("load-test.remote-delay-ms", 50);
+        wireMockServer.stubFor(get(urlPathMatching("/events/\\d+"))
+                .willReturn(json("{\"id\": 1, \"endDateTime\": \"01.01.2024 10:00\", \"ownerId\": " + USER_ID + "}",
+                        delay)));
+        wireMockServer.stubFor(get(urlPathMatching("/events/teams/\\d+"))
+                .willReturn(json("[]", delay)));
+        wireMockServer.stubFor(get(urlPathMatching("/registrations/search"))
+                .willReturn(json("[{\"username\": \"load_user\", \"eventId\": 1, \"status\": \"APPROVED\"}]", delay)));
+    }
+
+    @AfterAll
+    static void afterAll() {
+        wireMockServer.stop();
+        POSTGRES.stop();
+    }
+
+    @Test
+    @DisplayName("Create review throughput with platform and virtual request threads")
+    void createReview_withPlatformAndVirtualThreads_shouldReportThroughput() {
+        final List<Integer> concurrencyLevels = Arrays.stream(System.getProperty("load-test.concurrency",
+                        "1000,5000,10000").split(","))
+                .map(String::trim)
+                .map(Integer::valueOf)
+                .toList();
+        final int requestsPerClient = Integer.getInteger("load-test.requests-per-client", 5);
+        final List<String> report = new ArrayList<>();
+
+        for (boolean virtualThreads : List.of(false, true)) {
+            try (ConfigurableApplicationContext context = startApplication(virtualThreads)) {
+                final int port = context.getEnvironment().getRequiredProperty("local.server.port", Integer.class);
+                for (int concurrency : concurrencyLevels) {
+                    final LoadResult result = runLoad(port, concurrency, requestsPerClient);
+                    report.add(String.format("%-8s concurrency=%-6d ok=%-7d failed=%-7d throughput=%.1f req/s",
+                            virtualThreads ? "virtual" : "platform", concurrency, result.succeeded(),
+                            result.failed(), result.throughput()));
+                    assertThat(result.succeeded(), greaterThan(0));
+                }
+            }
+        }
+
+        report.forEach(System.out::println);
+    }
+
+    private ConfigurableApplicationContext startApplication(boolean virtualThreads) {
+        final Map<String, Object> properties = new HashMap<>();
+        properties.put("server.port", 0);
+        properties.put("server.tomcat.max-connections", 20000);
+        properties.put("server.tomcat.accept-count", 10000);
+        properties.put("spring.threads.virtual.enabled", virtualThreads);
+        properties.put("spring.datasource.url", POSTGRES.getJdbcUrl());
+        properties.put("spring.datasource.username", POSTGRES.getUsername());
+        properties.put("spring.datasource.password", POSTGRES.getPassword());
+        properties.put("app.event-service.url", wireMockServer.baseUrl());
+        properties.put("app.registration-service.url", wireMockServer.baseUrl());
+        properties.put("app.event-cache.ttl", "0s");
+        properties.put("app.event-cache.not-found-ttl", "0s");
+        properties.put("app.registration-cache.ttl", "0s");
+        properties.put("logging.level.root", "WARN");
+        properties.put("spring.cloud.openfeign.client.config.eventClient.logger-level", "NONE");
+        properties.put("spring.cloud.openfeign.client.config.registrationClient.logger-level", "NONE");
+        return new SpringApplicationBuilder(ReviewServiceApplication.class)
+                .properties(properties)
+                .run();
+    }
+
+    private LoadResult runLoad(int port, int concurrency, int requestsPerClient) {
+        final AtomicInteger succeeded = new AtomicInteger();
+        final AtomicInteger failed = new AtomicInteger();
+        final HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/reviews"))
+                .timeout(Duration.ofSeconds(60))
+                .header("Content-Type", "application/json")
+                .header("X-User-Id", String.valueOf(USER_ID))
+                .POST(HttpRequest.BodyPublishers.ofString(NEW_REVIEW))
+                .build();
+
+        final long start = System.nanoTime();
+        try (HttpClient httpClient = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+             ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+            IntStream.range(0, concurrency).forEach(i -> clients.submit(() -> {
+                for (int j = 0; j < requestsPerClient; j++) {
+                    try {
+                        final HttpResponse<Void> response = httpClient.send(request,
+                                HttpResponse.BodyHandlers.discarding());
+                        (response.statusCode() == 201 ? succeeded : failed).incrementAndGet();
+                    } catch (Exception e) {
+                        failed.incrementAndGet();
+                    }
+                }
+            }));
+        }
+        final double seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+        return new LoadResult(succeeded.get(), failed.get(), succeeded.get() / seconds);
+    }
+
+    private static ResponseDefinitionBuilder json(String body, int delay) {
+        return aResponse()
+                .withStatus(200)
+                .withHeader("Content-Type", "application/json")
+                .withFixedDelay(delay)
+                .withBody(body);
+    }
+
+    private record LoadResult(int succeeded, int failed, double throughput) {
+    }
+}
@@ -0,0 +1,150 @@
+package ru.mssecondteam.reviewservice.client;
+
+import feign.Client;
+import feign.RetryableException;
+import feign.hc5.ApacheHttp5Client;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.cloud.contract.wiremock.AutoConfigureWireMock;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.TestPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import ru.mssecondteam.reviewservice.client.event.EventClient;
+import ru.mssecondteam.reviewservice.client.registration.RegistrationClient;
+import ru.mssecondteam.reviewservice.dto.registration.RegistrationStatus;
+
+import java.util.List;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.stubFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlPathMatching;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.springframework.http.HttpStatus.OK;
+import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE)
+@Testcontainers
+@AutoConfigureWireMock(port = 0)
+@TestPropertySource(properties = {
+        "app.event-service.url=http://localhost:${wiremock.server.port}",
+        "app.registration-service.url=http://localhost:${wiremock.server.port}",
+        "spring.cloud.openfeign.client.config.eventClient.read-timeout=300"
+})
+class FeignTransportTest {
+
+    @Container
+    @ServiceConnection
+    private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @Autowired
+    private EventClient eventClient;
+
+    @Autowired
+    private RegistrationClient registrationClient;
+
+    @Autowired
+    private Client feignClient;
+
+    @Autowired
+    private PoolingHttpClientConnectionManager connectionManager;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @DynamicPropertySource
+    static void configureProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", POSTGRES::getJdbcUrl);
+        registry.add("spring.datasource.username", POSTGRES::getUsername);
+        registry.add("spring.datasource.password", POSTGRES::getPassword);
+    }
+
+    @BeforeAll
+    static void beforeAll() {
+        POSTGRES.start();
+    }
+
+    @AfterAll
+    static void afterAll() {
+        POSTGRES.stop();
+    }
+
+    @Test
+    @DisplayName("Feign clients use pooled Apache HttpClient 5 transport")
+    void feignClient_shouldBeApacheHttp5Client() {
+        assertThat(feignClient, instanceOf(ApacheHttp5Client.class));
+        assertThat(connectionManager.getTotalStats().getMax(), is(200));
+        assertThat(connectionManager.getDefaultMaxPerRoute(), is(50));
+        assertThat(meterRegistry.find("httpcomponents.httpclient.pool.total.max").tag("httpclient", "feign")
+                .gauge(), notNullValue());
+    }
+
+    @Test
+    @DisplayName("Connections are kept alive and reused between requests")
+    void searchRegistrations_whenCalledSeveralTimes_shouldReuseConnection() {
+        stubRegistrations(0);
+
+        for (int i = 0; i < 5; i++) {
+            registrationClient.searchRegistrations(List.of(RegistrationStatus.APPROVED), 1L);
+        }
+
+        assertThat(connectionManager.getTotalStats().getAvailable(), is(1));
+        assertThat(connectionManager.getTotalStats().getLeased(), is(0));
+    }
+
+    @Test
+    @DisplayName("Requests are timed per client route")
+    void searchRegistrations_shouldRecordLatencyPerRoute() {
+        stubRegistrations(0);
+
+        registrationClient.searchRegistrations(List.of(RegistrationStatus.APPROVED), 1L);
+
+        Timer timer = meterRegistry.find("http.client.requests")
+                .tag("http.url", "/registrations/search")
+                .tag("http.status_code", "200")
+                .timer();
+        assertThat(timer, notNullValue());
+        assertThat(timer.count(), greaterThanOrEqualTo(1L));
+    }
+
+    @Test
+    @DisplayName("Client read timeout is taken from its own configuration")
+    void getEventById_whenResponseIsSlowerThanReadTimeout_shouldThrowRetryableException() {
+        stubFor(get(urlPathMatching("/events/\\d+"))
+                .willReturn(aResponse()
+                        .withStatus(OK.value())
+                        .withHeader("Content-Type", APPLICATION_JSON_VALUE)
+                        .withFixedDelay(1000)
+                        .withBody("{}")));
+        stubRegistrations(500);
+
+        assertThrows(RetryableException.class, () -> eventClient.getEventById(1L, 1L));
+        assertThat(registrationClient.searchRegistrations(List.of(RegistrationStatus.APPROVED), 1L).getStatusCode()
+                .value(), is(OK.value()));
+    }
+
+    private void stubRegistrations(int delay) {
+        stubFor(get(urlPathMatching("/registrations/search"))
+                .willReturn(aResponse()
+                        .withStatus(OK.value())
+                        .withHeader("Content-Type", APPLICATION_JSON_VALUE)
+                        .withFixedDelay(delay)
+                        .withBody("[]")));
+    }
+}
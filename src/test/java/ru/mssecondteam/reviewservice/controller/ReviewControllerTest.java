@@ -2,6 +2,7 @@ package ru.mssecondteam.reviewservice.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.SneakyThrows;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -12,42 +13,60 @@ import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.web.context.request.async.WebAsyncTask;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.MissingRequestHeaderException;
 import ru.mssecondteam.reviewservice.dto.EventReviewStats;
 import ru.mssecondteam.reviewservice.dto.LikeDto;
 import ru.mssecondteam.reviewservice.dto.NewReviewRequest;
+import ru.mssecondteam.reviewservice.dto.NewReviewsBatchRequest;
 import ru.mssecondteam.reviewservice.dto.ReviewDto;
 import ru.mssecondteam.reviewservice.dto.ReviewUpdateRequest;
+import ru.mssecondteam.reviewservice.dto.TopReviewsDto;
 import ru.mssecondteam.reviewservice.dto.UserReviewStats;
 import ru.mssecondteam.reviewservice.exception.NotAuthorizedException;
 import ru.mssecondteam.reviewservice.exception.NotFoundException;
+import ru.mssecondteam.reviewservice.exception.TooManyRequestsException;
+import ru.mssecondteam.reviewservice.exception.ValidationException;
 import ru.mssecondteam.reviewservice.mapper.ReviewMapper;
 import ru.mssecondteam.reviewservice.model.Review;
-import ru.mssecondteam.reviewservice.model.TopReviews;
+import ru.mssecondteam.reviewservice.model.ReviewCreationResult;
+import ru.mssecondteam.reviewservice.model.ReviewCursor;
 import ru.mssecondteam.reviewservice.service.ReviewService;
+import ru.mssecondteam.reviewservice.service.etag.ETagService;
+import ru.mssecondteam.reviewservice.service.export.ReviewExportService;
 import ru.mssecondteam.reviewservice.service.like.LikeService;
 import ru.mssecondteam.reviewservice.service.stats.StatsService;
 
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
 import java.util.Collections;
+import java.util.List;
 import java.util.Map;
+import java.util.function.Supplier;
 
 import static org.hamcrest.Matchers.hasValue;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
 import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @WebMvcTest(controllers = ReviewController.class)
@@ -71,6 +90,12 @@ class ReviewControllerTest {
     @MockBean
     private ReviewMapper reviewMapper;
 
+    @MockBean
+    private ETagService eTagService;
+
+    @MockBean
+    private ReviewExportService reviewExportService;
+
     private NewReviewRequest newReview;
 
     private ReviewDto reviewDto;
@@ -842,11 +867,7 @@ class ReviewControllerTest {
     @SneakyThrows
     @DisplayName("Find review by id")
     void findReviewById_whenReviewFound_shouldReturnReview() {
-        when(reviewService.findReviewById(reviewId, userId))
-                .thenReturn(review);
-        when(likeService.getNumberOfLikesAndDislikesByReviewId(review.getId()))
-                .thenReturn(likeDto);
-        when(reviewMapper.toDtoWithLikes(review, likeDto))
+        when(reviewService.findReviewWithLikesById(reviewId, userId, null))
                 .thenReturn(reviewDto);
 
         mvc.perform(get("/reviews/{reviewId}", reviewId)
@@ -859,16 +880,70 @@ class ReviewControllerTest {
                 .andExpect(jsonPath("$.updatedDateTime", is(reviewDto.updatedDateTime().toString())))
                 .andExpect(jsonPath("$.mark", is(reviewDto.mark())));
 
-        verify(reviewService, times(1)).findReviewById(reviewId, userId);
-        verify(likeService, times(1)).getNumberOfLikesAndDislikesByReviewId(review.getId());
-        verify(reviewMapper, times(1)).toDtoWithLikes(review, likeDto);
+        verify(reviewService, times(1)).findReviewWithLikesById(reviewId, userId, null);
+    }
+
+    @Test
+    @SneakyThrows
+    @DisplayName("Find review by id, response contains ETag")
+    void findReviewById_whenReviewFound_shouldReturnETag() {
+        String eTag = "W/\"abc\"";
+        when(eTagService.getReviewETag(reviewId))
+                .thenReturn(eTag);
+        when(reviewService.findReviewWithLikesById(reviewId, userId, eTag))
+                .thenReturn(reviewDto);
+
+        mvc.perform(get("/reviews/{reviewId}", reviewId)
+                        .header("X-User-Id", userId)
+                        .header("If-None-Match", "W/\"old\""))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", eTag))
+                .andExpect(jsonPath("$.id", is(reviewDto.id()), Long.class));
+
+        verify(reviewService, times(1)).findReviewWithLikesById(reviewId, userId, eTag);
+        verify(eTagService, never()).getRepresentationETag(any());
+    }
+
+    @Test
+    @SneakyThrows
+    @DisplayName("Find review by id, review not modified")
+    void findReviewById_whenETagMatches_shouldReturn304() {
+        String eTag = "W/\"abc\"";
+        when(eTagService.getReviewETag(reviewId))
+                .thenReturn(eTag);
+
+        mvc.perform(get("/reviews/{reviewId}", reviewId)
+                        .header("X-User-Id", userId)
+                        .header("If-None-Match", eTag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", eTag))
+                .andExpect(content().string(""));
+
+        verify(reviewService, never()).findReviewWithLikesById(any(), any(), any());
+    }
+
+    @Test
+    @SneakyThrows
+    @DisplayName("Find review by id, no version available, body hash matches")
+    void findReviewById_whenNoVersionAndRepresentationMatches_shouldReturn304() {
+        String eTag = "W/\"body\"";
+        when(reviewService.findReviewWithLikesById(reviewId, userId, null))
+                .thenReturn(reviewDto);
+        when(eTagService.getRepresentationETag(reviewDto))
+                .thenReturn(eTag);
+
+        mvc.perform(get("/reviews/{reviewId}", reviewId)
+                        .header("X-User-Id", userId)
+                        .header("If-None-Match", eTag))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
     }
 
     @Test
     @SneakyThrows
     @DisplayName("Find review by id, review not found")
     void findReviewById_whenReviewNotFound_shouldReturnReview() {
-        when(reviewService.findReviewById(reviewId, userId))
+        when(reviewService.findReviewWithLikesById(reviewId, userId, null))
                 .thenThrow(new NotFoundException("Review was not found"));
 
         mvc.perform(get("/reviews/{reviewId}", reviewId)
@@ -877,19 +952,62 @@ class ReviewControllerTest {
                 .andExpect(result -> assertInstanceOf(NotFoundException.class, result.getResolvedException()))
                 .andExpect(jsonPath("$.errors", hasValue("Review was not found")));
 
-        verify(reviewService, times(1)).findReviewById(reviewId, userId);
+        verify(reviewService, times(1)).findReviewWithLikesById(reviewId, userId, null);
         verify(reviewMapper, never()).toDto(any());
     }
 
+    @Test
+    @DisplayName("Find reviews by ids")
+    @SneakyThrows
+    void findReviewsByIds_shouldReturnReviewsWithLikes() {
+        Review otherReview = createReview(2);
+        ReviewDto otherReviewDto = createReviewDto(2);
+        List<Review> reviews = List.of(otherReview, review);
+        Map<Long, LikeDto> likesDto = Map.of(review.getId(), likeDto);
+        when(reviewService.findReviewsByIds(List.of(2L, 1L), userId))
+                .thenReturn(reviews);
+        when(likeService.getNumberOfLikesAndDislikesByListReviewsId(List.of(2L, 1L)))
+                .thenReturn(likesDto);
+        when(reviewMapper.toDtoListWithLikes(reviews, likesDto))
+                .thenReturn(List.of(otherReviewDto, reviewDto));
+
+        mvc.perform(get("/reviews/batch")
+                        .param("ids", "2,1")
+                        .header("X-User-Id", userId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()", is(2)))
+                .andExpect(jsonPath("$[0].id", is(otherReviewDto.id()), Long.class))
+                .andExpect(jsonPath("$[1].id", is(reviewDto.id()), Long.class));
+
+        verify(reviewService, times(1)).findReviewsByIds(List.of(2L, 1L), userId);
+        verify(likeService, times(1)).getNumberOfLikesAndDislikesByListReviewsId(List.of(2L, 1L));
+        verify(reviewService, never()).findReviewWithLikesById(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Find reviews by ids, too many ids")
+    @SneakyThrows
+    void findReviewsByIds_whenTooManyIds_shouldReturn400Status() {
+        when(reviewService.findReviewsByIds(any(), any()))
+                .thenThrow(new ValidationException("Number of review ids must be between 1 and 200"));
+
+        mvc.perform(get("/reviews/batch")
+                        .param("ids", "1,2")
+                        .header("X-User-Id", userId))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errors", hasValue("Number of review ids must be between 1 and 200")));
+
+        verify(likeService, never()).getNumberOfLikesAndDislikesByListReviewsId(any());
+    }
+
     @Test
     @DisplayName("Find reviews by eventId")
     @SneakyThrows
     void findReviewsByEventId_shouldReturnReviewList() {
         Long eventId = 34L;
         when(reviewService.findReviewsByEventId(eventId, 0, 10, userId))
-                .thenReturn(Collections.singletonList(review));
-        when(reviewMapper.toDtoListWithLikes(Collections.singletonList(review), Collections.emptyMap()))
                 .thenReturn(Collections.singletonList(reviewDto));
+        mockReviewsWithActualCounters();
 
         mvc.perform(get("/reviews")
                         .param("eventId", String.valueOf(eventId))
@@ -904,8 +1022,63 @@ class ReviewControllerTest {
                 .andExpect(jsonPath("$.[0].mark", is(reviewDto.mark())));
 
         verify(reviewService, times(1)).findReviewsByEventId(eventId, 0, 10, userId);
-        verify(reviewMapper, times(1)).toDtoListWithLikes(Collections.singletonList(review),
-                Collections.emptyMap());
+        verify(likeService, times(1)).getReviewsWithActualCounters(any());
+        verify(reviewMapper, never()).toDtoListWithLikes(any(), any());
+    }
+
+    @Test
+    @DisplayName("Scroll reviews by eventId, first page")
+    @SneakyThrows
+    void scrollReviewsByEventId_whenNoCursor_shouldReturnPageWithNextCursor() {
+        Long eventId = 34L;
+        when(reviewService.findReviewsByEventIdAfter(eventId, null, 1, userId))
+                .thenReturn(Collections.singletonList(reviewDto));
+        mockReviewsWithActualCounters();
+
+        mvc.perform(get("/reviews/scroll")
+                        .param("eventId", String.valueOf(eventId))
+                        .param("size", "1")
+                        .header("X-User-Id", userId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.reviews.length()", is(1)))
+                .andExpect(jsonPath("$.reviews.[0].id", is(reviewDto.id()), Long.class))
+                .andExpect(jsonPath("$.nextCursor", is(ReviewCursor.of(reviewDto).encode())));
+
+        verify(reviewService, times(1)).findReviewsByEventIdAfter(eventId, null, 1, userId);
+    }
+
+    @Test
+    @DisplayName("Scroll reviews by eventId, last page")
+    @SneakyThrows
+    void scrollReviewsByEventId_whenLastPage_shouldReturnPageWithoutNextCursor() {
+        Long eventId = 34L;
+        ReviewCursor cursor = new ReviewCursor(LocalDateTime.of(2025, 10, 10, 12, 34, 33), 3L);
+        when(reviewService.findReviewsByEventIdAfter(eventId, cursor, 10, userId))
+                .thenReturn(Collections.singletonList(reviewDto));
+        mockReviewsWithActualCounters();
+
+        mvc.perform(get("/reviews/scroll")
+                        .param("eventId", String.valueOf(eventId))
+                        .param("cursor", cursor.encode())
+                        .header("X-User-Id", userId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.reviews.length()", is(1)))
+                .andExpect(jsonPath("$.nextCursor", nullValue()));
+
+        verify(reviewService, times(1)).findReviewsByEventIdAfter(eventId, cursor, 10, userId);
+    }
+
+    @Test
+    @DisplayName("Scroll reviews by eventId, invalid cursor")
+    @SneakyThrows
+    void scrollReviewsByEventId_whenCursorInvalid_shouldReturn400Status() {
+        mvc.perform(get("/reviews/scroll")
+                        .param("eventId", "34")
+                        .param("cursor", "not-a-cursor")
+                        .header("X-User-Id", userId))
+                .andExpect(status().isBadRequest());
+
+        verify(reviewService, never()).findReviewsByEventIdAfter(anyLong(), any(), any(), anyLong());
     }
 
     @Test
@@ -957,10 +1130,6 @@ class ReviewControllerTest {
     @SneakyThrows
     void addLike_shouldReturn200Status() {
         when(reviewService.addLikeOrDislike(anyLong(), anyLong(), any()))
-                .thenReturn(review);
-        when(likeService.getNumberOfLikesAndDislikesByReviewId(anyLong()))
-                .thenReturn(likeDto);
-        when(reviewMapper.toDtoWithLikes(any(), any()))
                 .thenReturn(reviewDto);
 
         mvc.perform(post("/reviews/1/like")
@@ -976,8 +1145,8 @@ class ReviewControllerTest {
                 .andExpect(jsonPath("$.mark", is(reviewDto.mark())));
 
         verify(reviewService, times(1)).addLikeOrDislike(anyLong(), anyLong(), any());
-        verify(likeService, times(1)).getNumberOfLikesAndDislikesByReviewId(any());
-        verify(reviewMapper, times(1)).toDtoWithLikes(any(), any());
+        verify(likeService, never()).getNumberOfLikesAndDislikesByReviewId(any());
+        verify(reviewMapper, never()).toDtoWithLikes(any(), any());
     }
 
     @Test
@@ -1015,10 +1184,6 @@ class ReviewControllerTest {
     @SneakyThrows
     void addDislike_shouldReturn200Status() {
         when(reviewService.addLikeOrDislike(anyLong(), anyLong(), any()))
-                .thenReturn(review);
-        when(likeService.getNumberOfLikesAndDislikesByReviewId(anyLong()))
-                .thenReturn(likeDto);
-        when(reviewMapper.toDtoWithLikes(any(), any()))
                 .thenReturn(reviewDto);
 
         mvc.perform(post("/reviews/1/dislike")
@@ -1034,8 +1199,8 @@ class ReviewControllerTest {
                 .andExpect(jsonPath("$.mark", is(reviewDto.mark())));
 
         verify(reviewService, times(1)).addLikeOrDislike(anyLong(), anyLong(), any());
-        verify(likeService, times(1)).getNumberOfLikesAndDislikesByReviewId(any());
-        verify(reviewMapper, times(1)).toDtoWithLikes(any(), any());
+        verify(likeService, never()).getNumberOfLikesAndDislikesByReviewId(any());
+        verify(reviewMapper, never()).toDtoWithLikes(any(), any());
     }
 
     @Test
@@ -1073,10 +1238,6 @@ class ReviewControllerTest {
     @SneakyThrows
     void deleteLike_shouldReturn200Status() {
         when(reviewService.deleteLikeOrDislike(anyLong(), anyLong(), any()))
-                .thenReturn(review);
-        when(likeService.getNumberOfLikesAndDislikesByReviewId(anyLong()))
-                .thenReturn(likeDto);
-        when(reviewMapper.toDtoWithLikes(any(), any()))
                 .thenReturn(reviewDto);
 
         mvc.perform(delete("/reviews/1/like")
@@ -1092,8 +1253,8 @@ class ReviewControllerTest {
                 .andExpect(jsonPath("$.mark", is(reviewDto.mark())));
 
         verify(reviewService, times(1)).deleteLikeOrDislike(anyLong(), anyLong(), any());
-        verify(likeService, times(1)).getNumberOfLikesAndDislikesByReviewId(any());
-        verify(reviewMapper, times(1)).toDtoWithLikes(any(), any());
+        verify(likeService, never()).getNumberOfLikesAndDislikesByReviewId(any());
+        verify(reviewMapper, never()).toDtoWithLikes(any(), any());
     }
 
     @Test
@@ -1116,10 +1277,6 @@ class ReviewControllerTest {
     @SneakyThrows
     void deleteDislike_shouldReturn200Status() {
         when(reviewService.deleteLikeOrDislike(anyLong(), anyLong(), any()))
-                .thenReturn(review);
-        when(likeService.getNumberOfLikesAndDislikesByReviewId(anyLong()))
-                .thenReturn(likeDto);
-        when(reviewMapper.toDtoWithLikes(any(), any()))
                 .thenReturn(reviewDto);
 
         mvc.perform(delete("/reviews/1/dislike")
@@ -1135,8 +1292,8 @@ class ReviewControllerTest {
                 .andExpect(jsonPath("$.mark", is(reviewDto.mark())));
 
         verify(reviewService, times(1)).deleteLikeOrDislike(anyLong(), anyLong(), any());
-        verify(likeService, times(1)).getNumberOfLikesAndDislikesByReviewId(any());
-        verify(reviewMapper, times(1)).toDtoWithLikes(any(), any());
+        verify(likeService, never()).getNumberOfLikesAndDislikesByReviewId(any());
+        verify(reviewMapper, never()).toDtoWithLikes(any(), any());
     }
 
     @Test
@@ -1159,38 +1316,178 @@ class ReviewControllerTest {
     @SneakyThrows
     void getTopReviewsForEvent_whenEventExists_shouldReturnTopReviews() {
         Long eventId = 34L;
-        Review badReview = createReview(23);
         ReviewDto badReviewDto = createReviewDto(342);
-        TopReviews topReviews = new TopReviews(Collections.singletonList(review), Collections.singletonList(badReview));
+        TopReviewsDto topReviews = new TopReviewsDto(Collections.singletonList(reviewDto),
+                Collections.singletonList(badReviewDto));
 
-        when(reviewService.getTopReviews(eventId))
+        when(reviewService.getTopReviews(eventId, null))
                 .thenReturn(topReviews);
-        when(likeService.getNumberOfLikesAndDislikesByListReviewsId(Collections.singletonList(review.getId())))
-                .thenReturn(Map.of(review.getId(), likeDto));
-        when(reviewMapper.toDtoListWithLikes(Collections.singletonList(review), Map.of(review.getId(), likeDto)))
-                .thenReturn(Collections.singletonList(reviewDto));
-        when(likeService.getNumberOfLikesAndDislikesByListReviewsId(Collections.singletonList(badReview.getId())))
-                .thenReturn(Map.of(badReview.getId(), likeDto));
-        when(reviewMapper.toDtoListWithLikes(Collections.singletonList(badReview), Map.of(badReview.getId(), likeDto)))
-                .thenReturn(Collections.singletonList(badReviewDto));
 
         mvc.perform(get("/reviews/top")
                         .param("eventId", String.valueOf(eventId)))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.bestReviews.length()", is(1)))
                 .andExpect(jsonPath("$.bestReviews.[0].id", is(reviewDto.id()), Long.class))
+                .andExpect(jsonPath("$.bestReviews.[0].numberOfLikes", is(reviewDto.numberOfLikes()), Long.class))
                 .andExpect(jsonPath("$.worstReviews.length()", is(1)))
                 .andExpect(jsonPath("$.worstReviews.[0].id", is(badReviewDto.id()), Long.class));
 
-        verify(reviewService, times(1)).getTopReviews(eventId);
-        verify(likeService, times(1)).getNumberOfLikesAndDislikesByListReviewsId(
-                Collections.singletonList(review.getId()));
-        verify(reviewMapper, times(1)).toDtoListWithLikes(
-                Collections.singletonList(review), Map.of(review.getId(), likeDto));
-        verify(likeService, times(1)).getNumberOfLikesAndDislikesByListReviewsId(
-                Collections.singletonList(badReview.getId()));
-        verify(reviewMapper, times(1)).toDtoListWithLikes(
-                Collections.singletonList(badReview), Map.of(badReview.getId(), likeDto));
+        verify(reviewService, times(1)).getTopReviews(eventId, null);
+        verify(likeService, never()).getNumberOfLikesAndDislikesByListReviewsId(any());
+    }
+
+    @Test
+    @DisplayName("Get top reviews, top reviews not modified")
+    @SneakyThrows
+    void getTopReviewsForEvent_whenETagMatches_shouldReturn304() {
+        Long eventId = 34L;
+        String eTag = "W/\"top\"";
+        when(eTagService.getEventReviewsETag(eventId))
+                .thenReturn(eTag);
+
+        mvc.perform(get("/reviews/top")
+                        .param("eventId", String.valueOf(eventId))
+                        .header("If-None-Match", eTag))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+
+        verify(reviewService, never()).getTopReviews(any(), any());
+    }
+
+    @Test
+    @DisplayName("Get reviews for event, reviews not modified")
+    @SneakyThrows
+    void findReviewsByEventId_whenETagMatches_shouldReturn304() {
+        Long eventId = 34L;
+        String eTag = "W/\"event\"";
+        when(eTagService.getEventReviewsETag(eventId, 0, 10))
+                .thenReturn(eTag);
+
+        mvc.perform(get("/reviews")
+                        .param("eventId", String.valueOf(eventId))
+                        .header("X-User-Id", userId)
+                        .header("If-None-Match", eTag))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+
+        verify(likeService, never()).getReviewsWithActualCounters(any());
+        verify(eTagService, never()).getRepresentationETag(any());
+    }
+
+    @Test
+    @DisplayName("Scroll reviews for event, page not modified")
+    @SneakyThrows
+    void scrollReviewsByEventId_whenETagMatches_shouldReturn304() {
+        Long eventId = 34L;
+        String eTag = "W/\"scroll\"";
+        when(eTagService.getEventReviewsETag(eventId, null, 10))
+                .thenReturn(eTag);
+
+        mvc.perform(get("/reviews/scroll")
+                        .param("eventId", String.valueOf(eventId))
+                        .header("X-User-Id", userId)
+                        .header("If-None-Match", eTag))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+
+        verify(reviewService, never()).findReviewsByEventIdAfter(anyLong(), any(), any(), anyLong());
+    }
+
+    @Test
+    @DisplayName("Export reviews for event")
+    @SneakyThrows
+    void exportReviewsByEventId_shouldStreamNdjson() {
+        Long eventId = 34L;
+        String lines = "{\"id\":1}\n{\"eventId\":34,\"rowCount\":1}\n";
+        when(reviewExportService.exportEventReviews(eq(eventId), eq(false), any()))
+                .thenAnswer(invocation -> new WebAsyncTask<Void>(() -> {
+                    invocation.getArgument(2, HttpServletResponse.class).getOutputStream()
+                            .write(lines.getBytes(StandardCharsets.UTF_8));
+                    return null;
+                }));
+
+        MvcResult result = mvc.perform(get("/reviews/export")
+                        .param("eventId", String.valueOf(eventId))
+                        .header("X-User-Id", userId))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+                .andExpect(header().doesNotExist("Content-Encoding"))
+                .andExpect(content().string(lines));
+    }
+
+    @Test
+    @DisplayName("Export reviews for event, client accepts gzip")
+    @SneakyThrows
+    void exportReviewsByEventId_whenClientAcceptsGzip_shouldSetContentEncoding() {
+        Long eventId = 34L;
+        when(reviewExportService.exportEventReviews(eq(eventId), eq(true), any()))
+                .thenReturn(new WebAsyncTask<>(() -> null));
+
+        mvc.perform(get("/reviews/export")
+                        .param("eventId", String.valueOf(eventId))
+                        .header("X-User-Id", userId)
+                        .header("Accept-Encoding", "gzip, deflate"))
+                .andExpect(request().asyncStarted())
+                .andExpect(header().string("Content-Encoding", "gzip"))
+                .andExpect(header().string("Vary", "Accept-Encoding"));
+
+        verify(reviewExportService, times(1)).exportEventReviews(eq(eventId), eq(true), any());
+    }
+
+    @Test
+    @DisplayName("Export reviews for event, client refuses gzip with zero quality")
+    @SneakyThrows
+    void exportReviewsByEventId_whenGzipQualityIsZero_shouldNotCompress() {
+        Long eventId = 34L;
+        when(reviewExportService.exportEventReviews(eq(eventId), eq(false), any()))
+                .thenReturn(new WebAsyncTask<>(() -> null));
+
+        mvc.perform(get("/reviews/export")
+                        .param("eventId", String.valueOf(eventId))
+                        .header("X-User-Id", userId)
+                        .header("Accept-Encoding", "*;q=0.5, GZIP ; q=0"))
+                .andExpect(request().asyncStarted())
+                .andExpect(header().doesNotExist("Content-Encoding"))
+                .andExpect(header().string("Vary", "Accept-Encoding"));
+
+        verify(reviewExportService, times(1)).exportEventReviews(eq(eventId), eq(false), any());
+    }
+
+    @Test
+    @DisplayName("Export reviews for event, client accepts any encoding")
+    @SneakyThrows
+    void exportReviewsByEventId_whenClientAcceptsAnyEncoding_shouldCompress() {
+        Long eventId = 34L;
+        when(reviewExportService.exportEventReviews(eq(eventId), eq(true), any()))
+                .thenReturn(new WebAsyncTask<>(() -> null));
+
+        mvc.perform(get("/reviews/export")
+                        .param("eventId", String.valueOf(eventId))
+                        .header("X-User-Id", userId)
+                        .header("Accept-Encoding", "br;q=1.0, *;q=0.1"))
+                .andExpect(request().asyncStarted())
+                .andExpect(header().string("Content-Encoding", "gzip"));
+
+        verify(reviewExportService, times(1)).exportEventReviews(eq(eventId), eq(true), any());
+    }
+
+    @Test
+    @DisplayName("Export reviews for event, too many exports")
+    @SneakyThrows
+    void exportReviewsByEventId_whenTooManyExports_shouldReturn429Status() {
+        Long eventId = 34L;
+        when(reviewExportService.exportEventReviews(eq(eventId), eq(false), any()))
+                .thenThrow(new TooManyRequestsException("Only '4' reviews exports can run at the same time"));
+
+        mvc.perform(get("/reviews/export")
+                        .param("eventId", String.valueOf(eventId))
+                        .header("X-User-Id", userId))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(jsonPath("$.errors", hasValue("Only '4' reviews exports can run at the same time")));
     }
 
     @Test
@@ -1213,6 +1510,32 @@ class ReviewControllerTest {
         verify(statsService, times(1)).getEventReviewsStats(eventId);
     }
 
+    @Test
+    @DisplayName("Get reviews stats for several events")
+    @SneakyThrows
+    void getEventsReviewsStats_shouldReturnStatsByEventId() {
+        EventReviewStats reviewStats = EventReviewStats.builder()
+                .eventId(2323L)
+                .avgMark(7.5F)
+                .totalNumberOfReviews(4)
+                .positiveReviewsPercentage(75F)
+                .negativeReviewsPercentage(25F)
+                .build();
+        when(statsService.getEventsReviewsStats(List.of(2323L, 2324L)))
+                .thenReturn(Map.of(2323L, reviewStats));
+
+        mvc.perform(get("/reviews/stats/events")
+                        .param("eventIds", "2323,2324"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()", is(1)))
+                .andExpect(jsonPath("$['2323'].eventId", is(reviewStats.eventId()), Long.class))
+                .andExpect(jsonPath("$['2323'].avgMark", is(7.5)))
+                .andExpect(jsonPath("$['2323'].totalNumberOfReviews", is(4)));
+
+        verify(statsService, times(1)).getEventsReviewsStats(List.of(2323L, 2324L));
+        verify(statsService, never()).getEventReviewsStats(any());
+    }
+
     @Test
     @DisplayName("Get reviews stats for user")
     @SneakyThrows
@@ -1233,6 +1556,67 @@ class ReviewControllerTest {
         verify(statsService, times(1)).getUserReviewsStats(authorId);
     }
 
+    @Test
+    @DisplayName("Create reviews in batch")
+    @SneakyThrows
+    void createReviews_whenSomeReviewsAreInvalid_shouldReturnResultForEachReview() {
+        NewReviewRequest invalidReview = NewReviewRequest.builder()
+                .title("")
+                .content("new content")
+                .username("new_username")
+                .eventId(444L)
+                .mark(6)
+                .build();
+        Review otherReview = createReview(2);
+        NewReviewsBatchRequest batchRequest = new NewReviewsBatchRequest(List.of(newReview, invalidReview, newReview));
+        when(reviewMapper.toModel(newReview))
+                .thenReturn(review, otherReview);
+        when(reviewService.createReviews(List.of(review, otherReview), userId))
+                .thenReturn(List.of(new ReviewCreationResult(review, null),
+                        new ReviewCreationResult(otherReview, new NotFoundException("Event was not found"))));
+        when(reviewMapper.toDto(review))
+                .thenReturn(reviewDto);
+
+        mvc.perform(post("/reviews/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(batchRequest))
+                        .header("X-User-Id", userId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()", is(3)))
+                .andExpect(jsonPath("$[0].index", is(0)))
+                .andExpect(jsonPath("$[0].status", is(HttpStatus.CREATED.value())))
+                .andExpect(jsonPath("$[0].review.id", is(reviewDto.id()), Long.class))
+                .andExpect(jsonPath("$[1].index", is(1)))
+                .andExpect(jsonPath("$[1].status", is(HttpStatus.BAD_REQUEST.value())))
+                .andExpect(jsonPath("$[1].errors.title",
+                        is("Title can not be blank and must contain between 2 and 100 symbols.")))
+                .andExpect(jsonPath("$[2].index", is(2)))
+                .andExpect(jsonPath("$[2].status", is(HttpStatus.NOT_FOUND.value())))
+                .andExpect(jsonPath("$[2].errors.error", is("Event was not found")));
+
+        verify(reviewService, times(1)).createReviews(List.of(review, otherReview), userId);
+        verify(reviewMapper, times(1)).toDto(review);
+    }
+
+    @Test
+    @DisplayName("Create reviews in batch, empty batch")
+    @SneakyThrows
+    void createReviews_whenBatchIsEmpty_shouldReturn400Status() {
+        mvc.perform(post("/reviews/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new NewReviewsBatchRequest(List.of())))
+                        .header("X-User-Id", userId))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errors", hasValue("Reviews must contain between 1 and 500 items.")));
+
+        verify(reviewService, never()).createReviews(any(), any());
+    }
+
+    private void mockReviewsWithActualCounters() {
+        when(likeService.getReviewsWithActualCounters(any()))
+                .thenAnswer(invocation -> invocation.<Supplier<List<ReviewDto>>>getArgument(0).get());
+    }
+
     private ReviewDto createReviewDto(long id) {
         return ReviewDto.builder()
                 .id(id)
@@ -0,0 +1,140 @@
+package ru.mssecondteam.reviewservice.repository;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.annotation.Transactional;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE)
+@Testcontainers
+@Transactional
+class RepositoryIndexesIT {
+
+    @Container
+    @ServiceConnection
+    private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @DynamicPropertySource
+    static void configureProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", POSTGRES::getJdbcUrl);
+        registry.add("spring.datasource.username", POSTGRES::getUsername);
+        registry.add("spring.datasource.password", POSTGRES::getPassword);
+    }
+
+    @BeforeAll
+    static void beforeAll() {
+        POSTGRES.start();
+    }
+
+    @AfterAll
+    static void afterAll() {
+        POSTGRES.stop();
+    }
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.execute("SET LOCAL enable_seqscan = off");
+    }
+
+    @Test
+    @DisplayName("Find reviews by event id uses event index")
+    void findReviewsByEventId_shouldUseEventIdCreatedAtIndex() {
+        String plan = explain("SELECT * FROM reviews r WHERE r.event_id = 4 " +
+                "ORDER BY r.created_at, r.review_id LIMIT 10");
+
+        assertThat(plan, containsString("reviews_event_id_created_at_idx"));
+    }
+
+    @Test
+    @DisplayName("Find like by user id and review id uses unique index")
+    void getLikeByUserIdAndReviewId_shouldUseUserIdReviewIdIndex() {
+        String plan = explain("SELECT * FROM likes l WHERE l.user_id = 2 AND l.review_id = 1");
+
+        assertThat(plan, containsString("likes_user_id_review_id_uq"));
+    }
+
+    @Test
+    @DisplayName("Likes aggregate by review id uses review index")
+    void likesAggregateByReviewId_shouldUseReviewIdIsPositiveIndex() {
+        String plan = explain("SELECT review_id, " +
+                "COUNT(CASE WHEN is_positive = TRUE THEN 1 END) AS likes, " +
+                "COUNT(CASE WHEN is_positive = FALSE THEN 1 END) AS dislikes " +
+                "FROM likes " +
+                "WHERE review_id = 1 " +
+                "GROUP BY review_id");
+
+        assertThat(plan, containsString("likes_review_id_is_positive_idx"));
+    }
+
+    @Test
+    @DisplayName("Likes counters by review id use primary key")
+    void getLikesAndDislikesByReviewId_shouldUseReviewsPrimaryKey() {
+        String plan = explain("SELECT review_id, number_of_likes, number_of_dislikes " +
+                "FROM reviews " +
+                "WHERE review_id = 1");
+
+        assertThat(plan, containsString("reviews_pkey"));
+    }
+
+    @Test
+    @DisplayName("User stats use author index")
+    void getReviewStatsForUser_shouldUseAuthorIdIndex() {
+        String plan = explain("SELECT r.author_id, AVG(r.mark), COUNT(*) " +
+                "FROM reviews r " +
+                "WHERE r.author_id = 13 " +
+                "GROUP BY r.author_id");
+
+        assertThat(plan, containsString("reviews_author_id_idx"));
+    }
+
+    @Test
+    @DisplayName("Top reviews use event index")
+    void getTopReviewsForEvent_shouldUseEventIdCreatedAtIndex() {
+        String plan = explain("SELECT r.* " +
+                "FROM reviews r " +
+                "LEFT JOIN likes l ON r.review_id = l.review_id " +
+                "WHERE r.event_id = 4 " +
+                "GROUP BY r.review_id " +
+                "ORDER BY (SUM(CASE WHEN l.is_positive = TRUE THEN 1 ELSE 0 END) " +
+                "- SUM(CASE WHEN l.is_positive = FALSE THEN 1 ELSE 0 END)) DESC LIMIT 3");
+
+        assertThat(plan, containsString("reviews_event_id_created_at_idx"));
+    }
+
+    @Test
+    @DisplayName("Event reviews version uses event vote version index")
+    void getEventReviewsVersion_shouldUseEventIdVoteVersionIndex() {
+        String plan = explain("SELECT MAX(vote_version) FROM reviews WHERE event_id = 4");
+
+        assertThat(plan, containsString("reviews_event_id_vote_version_idx"));
+    }
+
+    @Test
+    @DisplayName("Event stats use primary key")
+    void getEventReviewStats_shouldUseEventReviewStatsPrimaryKey() {
+        String plan = explain("SELECT * FROM event_review_stats WHERE event_id = 4");
+
+        assertThat(plan, containsString("event_review_stats_pkey"));
+    }
+
+    private String explain(String sql) {
+        return String.join("\n", jdbcTemplate.queryForList("EXPLAIN " + sql, String.class));
+    }
+}
@@ -0,0 +1,211 @@
+package ru.mssecondteam.reviewservice.repository;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.github.tomakehurst.wiremock.client.ResponseDefinitionBuilder;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.cloud.contract.wiremock.AutoConfigureWireMock;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.TestPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import ru.mssecondteam.reviewservice.dto.event.EventDto;
+import ru.mssecondteam.reviewservice.dto.event.TeamMemberDto;
+import ru.mssecondteam.reviewservice.dto.event.TeamMemberRole;
+import ru.mssecondteam.reviewservice.dto.registration.RegistrationResponseDto;
+import ru.mssecondteam.reviewservice.dto.registration.RegistrationStatus;
+import ru.mssecondteam.reviewservice.repository.like.LikeRepository;
+import ru.mssecondteam.reviewservice.service.EventServiceHelper;
+import ru.mssecondteam.reviewservice.service.RegistrationServiceHelper;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.IntStream;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.stubFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlPathMatching;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.empty;
+import static org.springframework.http.HttpStatus.OK;
+import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE)
+@Testcontainers
+@AutoConfigureWireMock(port = 0)
+@TestPropertySource(properties = {
+        "spring.threads.virtual.enabled=true",
+        "spring.datasource.hikari.maximum-pool-size=5",
+        "app.event-service.url=http://localhost:${wiremock.server.port}",
+        "app.registration-service.url=http://localhost:${wiremock.server.port}"
+})
+class VirtualThreadPinningTest {
+
+    private static final String VIRTUAL_THREAD_PINNED = "jdk.VirtualThreadPinned";
+
+    private static final int CONCURRENT_TASKS = 200;
+
+    private static final int REMOTE_CALL_DELAY_MILLIS = 5;
+
+    private static final List<String> MONITORED_PACKAGES = List.of("org.postgresql.", "com.zaxxer.hikari.", "feign.",
+            "org.apache.hc.", "com.github.benmanes.caffeine.");
+
+    @Container
+    @ServiceConnection
+    private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @Autowired
+    private ReviewRepository reviewRepository;
+
+    @Autowired
+    private LikeRepository likeRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EventServiceHelper eventServiceHelper;
+
+    @Autowired
+    private RegistrationServiceHelper registrationServiceHelper;
+
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule());
+
+    @DynamicPropertySource
+    static void configureProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", POSTGRES::getJdbcUrl);
+        registry.add("spring.datasource.username", POSTGRES::getUsername);
+        registry.add("spring.datasource.password", POSTGRES::getPassword);
+    }
+
+    @BeforeAll
+    static void beforeAll() {
+        POSTGRES.start();
+    }
+
+    @AfterAll
+    static void afterAll() {
+        POSTGRES.stop();
+    }
+
+    @Test
+    @DisplayName("JDBC and connection pool calls do not pin virtual threads")
+    void repositoryCalls_whenRunOnVirtualThreads_shouldNotPinCarrierThreads() {
+        List<String> pinnedStacks = new CopyOnWriteArrayList<>();
+
+        try (RecordingStream recording = new RecordingStream()) {
+            recording.enable(VIRTUAL_THREAD_PINNED).withStackTrace().withThreshold(Duration.ZERO);
+            recording.onEvent(VIRTUAL_THREAD_PINNED, event -> {
+                if (isInMonitoredPath(event)) {
+                    pinnedStacks.add(event.getStackTrace().toString());
+                }
+            });
+            recording.startAsync();
+
+            try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+                IntStream.range(0, CONCURRENT_TASKS).forEach(i -> executor.submit(() -> {
+                    jdbcTemplate.execute("SELECT pg_sleep(0.005)");
+                    reviewRepository.findReviewDtosByEventId((long) i, 0, 10);
+                    reviewRepository.getTopReviewsForEvent((long) i, 3);
+                    likeRepository.getLikesAndDislikesByReviewsIds(List.of((long) i));
+                }));
+            }
+
+            recording.stop();
+        }
+
+        assertThat(pinnedStacks, empty());
+    }
+
+    @Test
+    @DisplayName("Feign calls on event and registration cache misses do not pin virtual threads")
+    void remoteCalls_whenCacheMissesRunOnVirtualThreads_shouldNotPinCarrierThreads() {
+        setupWireMockForRemoteServices();
+        List<String> pinnedStacks = new CopyOnWriteArrayList<>();
+
+        try (RecordingStream recording = new RecordingStream()) {
+            recording.enable(VIRTUAL_THREAD_PINNED).withStackTrace().withThreshold(Duration.ZERO);
+            recording.onEvent(VIRTUAL_THREAD_PINNED, event -> {
+                if (isInMonitoredPath(event)) {
+                    pinnedStacks.add(event.getStackTrace().toString());
+                }
+            });
+            recording.startAsync();
+
+            try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+                IntStream.range(0, CONCURRENT_TASKS).forEach(i -> executor.submit(() -> {
+                    eventServiceHelper.checkThatEventHasPassedAndUserIsEventTeamMembers(1L, (long) i);
+                    registrationServiceHelper.getApprovedUsernames((long) i);
+                }));
+            }
+
+            recording.stop();
+        }
+
+        assertThat(pinnedStacks, empty());
+    }
+
+    private boolean isInMonitoredPath(RecordedEvent event) {
+        if (event.getStackTrace() == null) {
+            return false;
+        }
+        for (RecordedFrame frame : event.getStackTrace().getFrames()) {
+            final String className = frame.getMethod().getType().getName();
+            if (MONITORED_PACKAGES.stream().anyMatch(className::startsWith)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @SneakyThrows
+    private void setupWireMockForRemoteServices() {
+        EventDto event = new EventDto(
+                4L,
+                "username",
+                "description",
+                LocalDateTime.now().minusDays(20),
+                LocalDateTime.now().minusDays(10),
+                LocalDateTime.now().minusDays(5),
+                "stadium",
+                2L);
+        List<TeamMemberDto> teamMembers = List.of(new TeamMemberDto(4L, 1L, TeamMemberRole.MEMBER));
+        List<RegistrationResponseDto> registrations = List.of(new RegistrationResponseDto("username",
+                "user@name.mail", "7777777777", 4L, RegistrationStatus.APPROVED));
+
+        stubFor(get(urlPathMatching("/events/\\d+"))
+                .willReturn(jsonResponse(event)));
+        stubFor(get(urlPathMatching("/events/teams/\\d+"))
+                .willReturn(jsonResponse(teamMembers)));
+        stubFor(get(urlPathMatching("/registrations/search"))
+                .willReturn(jsonResponse(registrations)));
+    }
+
+    @SneakyThrows
+    private ResponseDefinitionBuilder jsonResponse(Object body) {
+        return aResponse()
+                .withStatus(OK.value())
+                .withFixedDelay(REMOTE_CALL_DELAY_MILLIS)
+                .withHeader("Content-Type", APPLICATION_JSON_VALUE)
+                .withBody(objectMapper.writeValueAsString(body));
+    }
+}
@@ -1,5 +1,7 @@
 package ru.mssecondteam.reviewservice.service;
 
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -18,18 +20,26 @@ import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 class EventServiceHelperTest {
     private EventClient eventClient;
     private EventServiceHelper eventServiceHelper;
+    private RemoteCallExecutor remoteCallExecutor;
 
     @BeforeEach
     void setUp() {
         eventClient = Mockito.mock(EventClient.class);
-        eventServiceHelper = new EventServiceHelper(eventClient);
+        remoteCallExecutor = new RemoteCallExecutor(2, 10, false);
+        eventServiceHelper = new EventServiceHelper(eventClient, remoteCallExecutor, Caffeine.newBuilder().build(),
+                Caffeine.newBuilder().build(), Caffeine.newBuilder().build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        remoteCallExecutor.shutdown();
     }
 
     @Test
@@ -78,7 +88,6 @@ class EventServiceHelperTest {
         );
 
         verify(eventClient).getEventById(userId, eventId);
-        verify(eventClient, never()).getTeamsByEventId(any(), any());
     }
 
     @Test
@@ -124,6 +133,90 @@ class EventServiceHelperTest {
         );
 
         verify(eventClient).getEventById(userId, eventId);
-        verify(eventClient, never()).getTeamsByEventId(any(), any());
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Should fetch passed event and team only once for repeated checks")
+    void checkThatEventHasPassedAndUserIsEventTeamMembers_whenCalledTwice_shouldUseCachedEventAndTeam() {
+        Long userId = 1L;
+        Long eventId = 100L;
+
+        EventDto eventDto = new EventDto(
+                eventId, "Event Name", "Description",
+                LocalDateTime.now().minusDays(2), LocalDateTime.now().minusDays(1), LocalDateTime.now().minusHours(1),
+                "Location", 2L
+        );
+
+        List<TeamMemberDto> teamMembers = List.of(
+                new TeamMemberDto(eventId, userId, TeamMemberRole.MEMBER)
+        );
+
+        when(eventClient.getEventById(any(), any())).thenReturn(ResponseEntity.ok(eventDto));
+        when(eventClient.getTeamsByEventId(any(), any())).thenReturn(ResponseEntity.ok(teamMembers));
+
+        eventServiceHelper.checkThatEventHasPassedAndUserIsEventTeamMembers(userId, eventId);
+        eventServiceHelper.checkThatEventHasPassedAndUserIsEventTeamMembers(2L, eventId);
+
+        verify(eventClient, times(1)).getEventById(any(), any());
+        verify(eventClient, times(1)).getTeamsByEventId(any(), any());
+    }
+
+    @Test
+    @DisplayName("Should not cache event that has not yet passed")
+    void checkThatEventHasPassedAndUserIsEventTeamMembers_whenEventNotPassed_shouldFetchEventAgain() {
+        Long userId = 1L;
+        Long eventId = 100L;
+
+        EventDto eventDto = new EventDto(
+                eventId, "Event Name", "Description",
+                LocalDateTime.now().minusDays(1), LocalDateTime.now().plusDays(1), LocalDateTime.now().plusDays(2),
+                "Location", 2L
+        );
+
+        when(eventClient.getEventById(any(), any())).thenReturn(ResponseEntity.ok(eventDto));
+
+        assertThrows(ValidationException.class,
+                () -> eventServiceHelper.checkThatEventHasPassedAndUserIsEventTeamMembers(userId, eventId));
+        assertThrows(ValidationException.class,
+                () -> eventServiceHelper.checkThatEventHasPassedAndUserIsEventTeamMembers(userId, eventId));
+
+        verify(eventClient, times(2)).getEventById(userId, eventId);
+    }
+
+    @Test
+    @DisplayName("Should remember missing event")
+    void checkThatEventHasPassedAndUserIsEventTeamMembers_whenEventNotFound_shouldNotFetchEventAgain() {
+        Long userId = 1L;
+        Long eventId = 100L;
+
+        when(eventClient.getEventById(any(), any())).thenThrow(new NotFoundException("Event was not found"));
+
+        assertThrows(NotFoundException.class,
+                () -> eventServiceHelper.checkThatEventHasPassedAndUserIsEventTeamMembers(userId, eventId));
+        assertThrows(NotFoundException.class,
+                () -> eventServiceHelper.checkThatEventHasPassedAndUserIsEventTeamMembers(userId, eventId));
+
+        verify(eventClient, times(1)).getEventById(userId, eventId);
+    }
+
+    @Test
+    @DisplayName("Should report event error when event and team lookups both fail")
+    void checkThatEventHasPassedAndUserIsEventTeamMembers_whenEventNotPassedAndTeamNotFound_shouldThrowValidationException() {
+        Long userId = 1L;
+        Long eventId = 100L;
+
+        EventDto eventDto = new EventDto(
+                eventId, "Event Name", "Description",
+                LocalDateTime.now().minusDays(1), LocalDateTime.now().plusDays(1), LocalDateTime.now().plusDays(2),
+                "Location", 2L
+        );
+
+        when(eventClient.getEventById(any(), any())).thenReturn(ResponseEntity.ok(eventDto));
+        when(eventClient.getTeamsByEventId(any(), any())).thenThrow(new NotFoundException("Event was not found"));
+
+        assertThrows(ValidationException.class,
+                () -> eventServiceHelper.checkThatEventHasPassedAndUserIsEventTeamMembers(userId, eventId));
+
+        verify(eventClient).getEventById(userId, eventId);
+    }
+}
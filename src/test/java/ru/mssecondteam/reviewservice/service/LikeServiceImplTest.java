@@ -11,6 +11,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
 import org.springframework.cloud.contract.wiremock.AutoConfigureWireMock;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.test.context.DynamicPropertyRegistry;
 import org.springframework.test.context.DynamicPropertySource;
 import org.springframework.test.context.TestPropertySource;
@@ -18,6 +19,7 @@ import org.testcontainers.containers.PostgreSQLContainer;
 import org.testcontainers.junit.jupiter.Container;
 import org.testcontainers.junit.jupiter.Testcontainers;
 import ru.mssecondteam.reviewservice.dto.LikeDto;
+import ru.mssecondteam.reviewservice.dto.ReviewDto;
 import ru.mssecondteam.reviewservice.dto.event.EventDto;
 import ru.mssecondteam.reviewservice.dto.event.TeamMemberDto;
 import ru.mssecondteam.reviewservice.dto.event.TeamMemberRole;
@@ -25,6 +27,7 @@ import ru.mssecondteam.reviewservice.dto.registration.RegistrationResponseDto;
 import ru.mssecondteam.reviewservice.dto.registration.RegistrationStatus;
 import ru.mssecondteam.reviewservice.exception.NotFoundException;
 import ru.mssecondteam.reviewservice.model.Review;
+import ru.mssecondteam.reviewservice.service.like.LikeCountersReconciliationJob;
 import ru.mssecondteam.reviewservice.service.like.LikeService;
 
 import java.time.LocalDateTime;
@@ -52,7 +55,11 @@ import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
 @AutoConfigureWireMock(port = 0)
 @TestPropertySource(properties = {
         "app.event-service.url=http://localhost:${wiremock.server.port}",
-        "app.registration-service.url=http://localhost:${wiremock.server.port}"
+        "app.registration-service.url=http://localhost:${wiremock.server.port}",
+        "app.event-cache.ttl=0s",
+        "app.event-cache.not-found-ttl=0s",
+        "app.registration-cache.ttl=0s",
+        "app.like-counters.reconciliation-batch-size=2"
 })
 class LikeServiceImplTest {
     @Container
@@ -65,6 +72,12 @@ class LikeServiceImplTest {
     @Autowired
     private LikeService likeService;
 
+    @Autowired
+    private LikeCountersReconciliationJob likeCountersReconciliationJob;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
     private ObjectMapper objectMapper;
 
     @DynamicPropertySource
@@ -99,7 +112,7 @@ class LikeServiceImplTest {
         Long otherUserId = 2L;
 
         Review review = reviewService.createReview(newReview, userId);
-        likeService.addLikeOrDislike(newReview, otherUserId, true);
+        likeService.addLikeOrDislike(newReview.getId(), otherUserId, true);
 
         LikeDto likeDto = likeService.getNumberOfLikesAndDislikesByReviewId(review.getId());
 
@@ -117,8 +130,8 @@ class LikeServiceImplTest {
         Long otherUserId = 2L;
 
         Review review = reviewService.createReview(newReview, userId);
-        likeService.addLikeOrDislike(review, otherUserId, true);
-        likeService.addLikeOrDislike(review, otherUserId, true);
+        likeService.addLikeOrDislike(review.getId(), otherUserId, true);
+        likeService.addLikeOrDislike(review.getId(), otherUserId, true);
 
         LikeDto likeDto = likeService.getNumberOfLikesAndDislikesByReviewId(review.getId());
 
@@ -137,9 +150,9 @@ class LikeServiceImplTest {
         Long otherUserId = 2L;
 
         Review review = reviewService.createReview(newReview, userId);
-        likeService.addLikeOrDislike(review, 7L, false);
-        likeService.addLikeOrDislike(review, otherUserId, false);
-        likeService.addLikeOrDislike(review, otherUserId, true);
+        likeService.addLikeOrDislike(review.getId(), 7L, false);
+        likeService.addLikeOrDislike(review.getId(), otherUserId, false);
+        likeService.addLikeOrDislike(review.getId(), otherUserId, true);
 
         LikeDto likeDto = likeService.getNumberOfLikesAndDislikesByReviewId(review.getId());
 
@@ -158,7 +171,7 @@ class LikeServiceImplTest {
         Long otherUserId = 2L;
 
         Review review = reviewService.createReview(newReview, userId);
-        likeService.addLikeOrDislike(review, otherUserId, false);
+        likeService.addLikeOrDislike(review.getId(), otherUserId, false);
 
         LikeDto likeDto = likeService.getNumberOfLikesAndDislikesByReviewId(review.getId());
 
@@ -176,8 +189,8 @@ class LikeServiceImplTest {
         Long otherUserId = 2L;
 
         Review review = reviewService.createReview(newReview, userId);
-        likeService.addLikeOrDislike(review, otherUserId, false);
-        likeService.addLikeOrDislike(review, otherUserId, false);
+        likeService.addLikeOrDislike(review.getId(), otherUserId, false);
+        likeService.addLikeOrDislike(review.getId(), otherUserId, false);
 
         LikeDto likeDto = likeService.getNumberOfLikesAndDislikesByReviewId(review.getId());
 
@@ -196,8 +209,8 @@ class LikeServiceImplTest {
 
         Review review = reviewService.createReview(newReview, userId);
 
-        likeService.addLikeOrDislike(review, otherUserId, true);
-        likeService.addLikeOrDislike(review, otherUserId, false);
+        likeService.addLikeOrDislike(review.getId(), otherUserId, true);
+        likeService.addLikeOrDislike(review.getId(), otherUserId, false);
 
         LikeDto likeDto = likeService.getNumberOfLikesAndDislikesByReviewId(review.getId());
 
@@ -213,7 +226,7 @@ class LikeServiceImplTest {
         Long otherUserId = 2L;
 
         Review review = reviewService.createReview(newReview, userId);
-        likeService.addLikeOrDislike(newReview, otherUserId, true);
+        likeService.addLikeOrDislike(newReview.getId(), otherUserId, true);
         likeService.deleteLikeOrDislike(newReview.getId(), otherUserId, true);
 
         LikeDto likeDto = likeService.getNumberOfLikesAndDislikesByReviewId(review.getId());
@@ -230,7 +243,7 @@ class LikeServiceImplTest {
         Long otherUserId = 2L;
 
         Review review = reviewService.createReview(newReview, userId);
-        likeService.addLikeOrDislike(newReview, otherUserId, true);
+        likeService.addLikeOrDislike(newReview.getId(), otherUserId, true);
         likeService.deleteLikeOrDislike(newReview.getId(), otherUserId, true);
 
         LikeDto likeDto = likeService.getNumberOfLikesAndDislikesByReviewId(review.getId());
@@ -279,7 +292,7 @@ class LikeServiceImplTest {
         Long otherUserId = 2L;
 
         Review review = reviewService.createReview(newReview, userId);
-        likeService.addLikeOrDislike(newReview, otherUserId, false);
+        likeService.addLikeOrDislike(newReview.getId(), otherUserId, false);
         likeService.deleteLikeOrDislike(newReview.getId(), otherUserId, true);
 
         LikeDto likeDto = likeService.getNumberOfLikesAndDislikesByReviewId(review.getId());
@@ -299,7 +312,7 @@ class LikeServiceImplTest {
         Long otherUserId = 2L;
 
         Review review = reviewService.createReview(newReview, userId);
-        likeService.addLikeOrDislike(newReview, otherUserId, true);
+        likeService.addLikeOrDislike(newReview.getId(), otherUserId, true);
         likeService.deleteLikeOrDislike(newReview.getId(), otherUserId, false);
 
         LikeDto likeDto = likeService.getNumberOfLikesAndDislikesByReviewId(review.getId());
@@ -320,8 +333,8 @@ class LikeServiceImplTest {
         Long otherUserIdNumberTwo = 3L;
 
         Review review = reviewService.createReview(newReview, userId);
-        likeService.addLikeOrDislike(review, otherUserIdNumberOne, true);
-        likeService.addLikeOrDislike(review, otherUserIdNumberTwo, false);
+        likeService.addLikeOrDislike(review.getId(), otherUserIdNumberOne, true);
+        likeService.addLikeOrDislike(review.getId(), otherUserIdNumberTwo, false);
 
         LikeDto likeDto = likeService.getNumberOfLikesAndDislikesByReviewId(review.getId());
 
@@ -341,8 +354,8 @@ class LikeServiceImplTest {
         Long otherUserIdNumberTwo = 3L;
 
         Review review = reviewService.createReview(newReview, userId);
-        likeService.addLikeOrDislike(review, otherUserIdNumberOne, false);
-        likeService.addLikeOrDislike(review, otherUserIdNumberTwo, false);
+        likeService.addLikeOrDislike(review.getId(), otherUserIdNumberOne, false);
+        likeService.addLikeOrDislike(review.getId(), otherUserIdNumberTwo, false);
 
         LikeDto likeDto = likeService.getNumberOfLikesAndDislikesByReviewId(review.getId());
 
@@ -362,8 +375,8 @@ class LikeServiceImplTest {
         Long otherUserIdNumberTwo = 3L;
 
         Review review = reviewService.createReview(newReview, userId);
-        likeService.addLikeOrDislike(review, otherUserIdNumberOne, true);
-        likeService.addLikeOrDislike(review, otherUserIdNumberTwo, true);
+        likeService.addLikeOrDislike(review.getId(), otherUserIdNumberOne, true);
+        likeService.addLikeOrDislike(review.getId(), otherUserIdNumberTwo, true);
 
         LikeDto likeDto = likeService.getNumberOfLikesAndDislikesByReviewId(review.getId());
 
@@ -399,9 +412,9 @@ class LikeServiceImplTest {
 
         Review reviewNumberOne = reviewService.createReview(newReviewNumberOne, userId);
         Review reviewNumberTwo = reviewService.createReview(newReviewNumberTwo, userId);
-        likeService.addLikeOrDislike(reviewNumberOne, otherUserIdNumberOne, true);
-        likeService.addLikeOrDislike(reviewNumberOne, otherUserIdNumberTwo, false);
-        likeService.addLikeOrDislike(reviewNumberTwo, otherUserIdNumberTwo, true);
+        likeService.addLikeOrDislike(reviewNumberOne.getId(), otherUserIdNumberOne, true);
+        likeService.addLikeOrDislike(reviewNumberOne.getId(), otherUserIdNumberTwo, false);
+        likeService.addLikeOrDislike(reviewNumberTwo.getId(), otherUserIdNumberTwo, true);
 
         ArrayList<Long> ids = new ArrayList<>();
         ids.add(reviewNumberOne.getId());
@@ -429,9 +442,9 @@ class LikeServiceImplTest {
 
         Review reviewNumberOne = reviewService.createReview(newReviewNumberOne, userId);
         Review reviewNumberTwo = reviewService.createReview(newReviewNumberTwo, userId);
-        likeService.addLikeOrDislike(reviewNumberOne, otherUserIdNumberOne, true);
-        likeService.addLikeOrDislike(reviewNumberOne, otherUserIdNumberTwo, false);
-        likeService.addLikeOrDislike(reviewNumberTwo, otherUserIdNumberTwo, true);
+        likeService.addLikeOrDislike(reviewNumberOne.getId(), otherUserIdNumberOne, true);
+        likeService.addLikeOrDislike(reviewNumberOne.getId(), otherUserIdNumberTwo, false);
+        likeService.addLikeOrDislike(reviewNumberTwo.getId(), otherUserIdNumberTwo, true);
 
         ArrayList<Long> ids = new ArrayList<>();
         ids.add(reviewNumberOne.getId());
@@ -468,6 +481,86 @@ class LikeServiceImplTest {
         assertTrue(likeDto.isEmpty());
     }
 
+    @Test
+    void addAndDeleteLikeOrDislikeReturnReviewWithUpdatedCounters() {
+        setupWireMockForRegistrationClientPositiveAnswer();
+        setupWireMockForEventClientPositiveAnswer();
+        Review newReview = createReview(1);
+        Long userId = 1L;
+
+        Review review = reviewService.createReview(newReview, userId);
+        likeService.addLikeOrDislike(review.getId(), 2L, true);
+        ReviewDto likedReview = likeService.addLikeOrDislike(review.getId(), 3L, true);
+        ReviewDto dislikedReview = likeService.addLikeOrDislike(review.getId(), 4L, false);
+        ReviewDto toggledReview = likeService.addLikeOrDislike(review.getId(), 2L, false);
+        ReviewDto deletedReview = likeService.deleteLikeOrDislike(review.getId(), 4L, false);
+
+        assertThat(likedReview.id(), is(review.getId()));
+        assertThat(likedReview.title(), is(review.getTitle()));
+        assertThat(likedReview.numberOfLikes(), is(2L));
+        assertThat(likedReview.numberOfDislikes(), is(0L));
+        assertThat(dislikedReview.numberOfLikes(), is(2L));
+        assertThat(dislikedReview.numberOfDislikes(), is(1L));
+        assertThat(toggledReview.numberOfLikes(), is(1L));
+        assertThat(toggledReview.numberOfDislikes(), is(1L));
+        assertThat(deletedReview.numberOfLikes(), is(1L));
+        assertThat(deletedReview.numberOfDislikes(), is(0L));
+    }
+
+    @Test
+    void reconcileLikesAndDislikesCountersIfCountersAreOutOfSync() {
+        setupWireMockForRegistrationClientPositiveAnswer();
+        setupWireMockForEventClientPositiveAnswer();
+        Review newReview = createReview(1);
+        Long userId = 1L;
+
+        Review review = reviewService.createReview(newReview, userId);
+        likeService.addLikeOrDislike(review.getId(), 2L, true);
+        likeService.addLikeOrDislike(review.getId(), 3L, true);
+        likeService.addLikeOrDislike(review.getId(), 4L, false);
+        jdbcTemplate.update("update reviews set number_of_likes = 10, number_of_dislikes = 0 where review_id = ?",
+                review.getId());
+
+        likeCountersReconciliationJob.reconcile();
+
+        LikeDto likeDto = likeService.getNumberOfLikesAndDislikesByReviewId(review.getId());
+
+        assertThat(likeDto, notNullValue());
+        assertThat(likeDto.numbersOfLikes(), is(2L));
+        assertThat(likeDto.numbersOfDislikes(), is(1L));
+    }
+
+    @Test
+    void reconcileLikesAndDislikesCountersShouldUpdateEventStatsIfReviewEligibilityChanged() {
+        setupWireMockForRegistrationClientPositiveAnswer();
+        setupWireMockForEventClientPositiveAnswer();
+        Review newReview = createReview(1);
+        Long userId = 1L;
+
+        Review review = reviewService.createReview(newReview, userId);
+        likeService.addLikeOrDislike(review.getId(), 2L, true);
+        likeService.addLikeOrDislike(review.getId(), 3L, true);
+        likeService.addLikeOrDislike(review.getId(), 4L, false);
+        jdbcTemplate.update("update reviews set number_of_likes = 0, number_of_dislikes = 5 where review_id = ?",
+                review.getId());
+        jdbcTemplate.update("update event_review_stats set eligible_reviews = eligible_reviews - 1, " +
+                "eligible_marks_sum = eligible_marks_sum - ? where event_id = ?", review.getMark(), review.getEventId());
+        Map<String, Object> statsBefore = getEligibleStats(review.getEventId());
+
+        likeCountersReconciliationJob.reconcile();
+
+        Map<String, Object> statsAfter = getEligibleStats(review.getEventId());
+
+        assertThat(statsAfter.get("eligible_reviews"), is((Long) statsBefore.get("eligible_reviews") + 1));
+        assertThat(statsAfter.get("eligible_marks_sum"),
+                is((Long) statsBefore.get("eligible_marks_sum") + review.getMark()));
+    }
+
+    private Map<String, Object> getEligibleStats(Long eventId) {
+        return jdbcTemplate.queryForMap("select eligible_reviews, eligible_marks_sum from event_review_stats " +
+                "where event_id = ?", eventId);
+    }
+
     private Review createReview(int id) {
         return Review.builder()
                 .title("review title " + id)
@@ -1,5 +1,9 @@
 package ru.mssecondteam.reviewservice.service;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Policy;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -7,18 +11,24 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.ResponseEntity;
+import org.springframework.test.util.ReflectionTestUtils;
 import ru.mssecondteam.reviewservice.client.registration.RegistrationClient;
+import ru.mssecondteam.reviewservice.config.RegistrationCacheConfig;
 import ru.mssecondteam.reviewservice.dto.registration.RegistrationResponseDto;
 import ru.mssecondteam.reviewservice.dto.registration.RegistrationStatus;
 import ru.mssecondteam.reviewservice.exception.NotFoundException;
 import ru.mssecondteam.reviewservice.exception.ValidationException;
 
+import java.time.Duration;
 import java.util.Collections;
 import java.util.List;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -32,7 +42,7 @@ class RegistrationServiceHelperTest {
 
     @BeforeEach
     void setUp() {
-        registrationServiceHelper = new RegistrationServiceHelper(registrationClient);
+        registrationServiceHelper = new RegistrationServiceHelper(registrationClient, Caffeine.newBuilder().build());
     }
 
     @Test
@@ -131,4 +141,66 @@ class RegistrationServiceHelperTest {
 
         verify(registrationClient).searchRegistrations(List.of(RegistrationStatus.APPROVED), eventId);
     }
+
+    @Test
+    @DisplayName("Should download approved registrations once per event")
+    void checkUserApprovedForEvent_whenCalledForSameEvent_shouldUseCachedUsernames() {
+        Long eventId = 1L;
+
+        List<RegistrationResponseDto> registrations = List.of(
+                new RegistrationResponseDto("firstUser", "first@example.com", "1234567890", eventId, RegistrationStatus.APPROVED),
+                new RegistrationResponseDto("secondUser", "second@example.com", "0987654321", eventId, RegistrationStatus.APPROVED)
+        );
+
+        when(registrationClient.searchRegistrations(List.of(RegistrationStatus.APPROVED), eventId))
+                .thenReturn(ResponseEntity.ok(registrations));
+
+        assertDoesNotThrow(() -> registrationServiceHelper.checkUserApprovedForEvent(eventId, "firstUser"));
+        assertDoesNotThrow(() -> registrationServiceHelper.checkUserApprovedForEvent(eventId, "secondUser"));
+        assertThrows(ValidationException.class, () ->
+                registrationServiceHelper.checkUserApprovedForEvent(eventId, "thirdUser"));
+
+        verify(registrationClient, times(1)).searchRegistrations(List.of(RegistrationStatus.APPROVED), eventId);
+    }
+
+    @Test
+    @DisplayName("Should skip approved registrations without username")
+    void checkUserApprovedForEvent_whenRegistrationHasNoUsername_shouldIgnoreIt() {
+        Long eventId = 1L;
+
+        List<RegistrationResponseDto> registrations = List.of(
+                new RegistrationResponseDto(null, "first@example.com", "1234567890", eventId, RegistrationStatus.APPROVED),
+                new RegistrationResponseDto("secondUser", "second@example.com", "0987654321", eventId, RegistrationStatus.APPROVED)
+        );
+
+        when(registrationClient.searchRegistrations(List.of(RegistrationStatus.APPROVED), eventId))
+                .thenReturn(ResponseEntity.ok(registrations));
+
+        assertDoesNotThrow(() -> registrationServiceHelper.checkUserApprovedForEvent(eventId, "secondUser"));
+        assertEquals(Set.of("secondUser"), registrationServiceHelper.getApprovedUsernames(eventId));
+    }
+
+    @Test
+    @DisplayName("Should keep empty approved registrations only for the empty ttl")
+    void getApprovedUsernames_whenNoRegistrationsFound_shouldCacheForEmptyTtl() {
+        RegistrationCacheConfig cacheConfig = new RegistrationCacheConfig();
+        ReflectionTestUtils.setField(cacheConfig, "maximumSize", 10L);
+        ReflectionTestUtils.setField(cacheConfig, "ttl", Duration.ofMinutes(10));
+        ReflectionTestUtils.setField(cacheConfig, "emptyTtl", Duration.ofSeconds(10));
+        Cache<Long, Set<String>> cache = cacheConfig.approvedUsernamesCache(new SimpleMeterRegistry());
+        registrationServiceHelper = new RegistrationServiceHelper(registrationClient, cache);
+
+        when(registrationClient.searchRegistrations(List.of(RegistrationStatus.APPROVED), 1L))
+                .thenReturn(ResponseEntity.ok(Collections.emptyList()));
+        when(registrationClient.searchRegistrations(List.of(RegistrationStatus.APPROVED), 2L))
+                .thenReturn(ResponseEntity.ok(List.of(new RegistrationResponseDto("user", "user@example.com",
+                        "1234567890", 2L, RegistrationStatus.APPROVED))));
+
+        registrationServiceHelper.getApprovedUsernames(1L);
+        registrationServiceHelper.getApprovedUsernames(2L);
+
+        Policy.VarExpiration<Long, Set<String>> expiration = cache.policy().expireVariably().orElseThrow();
+        assertTrue(expiration.getExpiresAfter(1L).orElseThrow().compareTo(Duration.ofSeconds(10)) <= 0);
+        assertTrue(expiration.getExpiresAfter(2L).orElseThrow().compareTo(Duration.ofMinutes(9)) > 0);
+    }
 }
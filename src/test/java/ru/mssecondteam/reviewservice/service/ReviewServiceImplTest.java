@@ -19,7 +19,9 @@ import org.springframework.transaction.annotation.Transactional;
 import org.testcontainers.containers.PostgreSQLContainer;
 import org.testcontainers.junit.jupiter.Container;
 import org.testcontainers.junit.jupiter.Testcontainers;
+import ru.mssecondteam.reviewservice.dto.ReviewDto;
 import ru.mssecondteam.reviewservice.dto.ReviewUpdateRequest;
+import ru.mssecondteam.reviewservice.dto.TopReviewsDto;
 import ru.mssecondteam.reviewservice.dto.event.EventDto;
 import ru.mssecondteam.reviewservice.dto.event.TeamMemberDto;
 import ru.mssecondteam.reviewservice.dto.event.TeamMemberRole;
@@ -29,23 +31,32 @@ import ru.mssecondteam.reviewservice.exception.NotAuthorizedException;
 import ru.mssecondteam.reviewservice.exception.NotFoundException;
 import ru.mssecondteam.reviewservice.exception.ValidationException;
 import ru.mssecondteam.reviewservice.model.Review;
-import ru.mssecondteam.reviewservice.model.TopReviews;
+import ru.mssecondteam.reviewservice.model.ReviewCreationResult;
+import ru.mssecondteam.reviewservice.model.ReviewCursor;
+import ru.mssecondteam.reviewservice.service.etag.ETagService;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.stream.LongStream;
 
 import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
 import static com.github.tomakehurst.wiremock.client.WireMock.equalTo;
 import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.getRequestedFor;
 import static com.github.tomakehurst.wiremock.client.WireMock.matching;
+import static com.github.tomakehurst.wiremock.client.WireMock.resetAllRequests;
 import static com.github.tomakehurst.wiremock.client.WireMock.stubFor;
 import static com.github.tomakehurst.wiremock.client.WireMock.urlPathMatching;
+import static com.github.tomakehurst.wiremock.client.WireMock.verify;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.emptyIterable;
 import static org.hamcrest.Matchers.greaterThan;
 import static org.hamcrest.Matchers.greaterThanOrEqualTo;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
 import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
 import static org.junit.Assert.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.springframework.http.HttpStatus.OK;
@@ -57,7 +68,10 @@ import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
 @AutoConfigureWireMock(port = 0)
 @TestPropertySource(properties = {
         "app.event-service.url=http://localhost:${wiremock.server.port}",
-        "app.registration-service.url=http://localhost:${wiremock.server.port}"
+        "app.registration-service.url=http://localhost:${wiremock.server.port}",
+        "app.event-cache.ttl=0s",
+        "app.event-cache.not-found-ttl=0s",
+        "app.registration-cache.ttl=0s"
 })
 class ReviewServiceImplTest {
 
@@ -68,6 +82,9 @@ class ReviewServiceImplTest {
     @Autowired
     private ReviewService reviewService;
 
+    @Autowired
+    private ETagService eTagService;
+
     private ObjectMapper objectMapper;
 
     @DynamicPropertySource
@@ -240,6 +257,36 @@ class ReviewServiceImplTest {
         assertThat(ex.getMessage(), is("Review with id '" + unknownId + "' was not found"));
     }
 
+    @Test
+    @DisplayName("Find reviews by ids")
+    void findReviewsByIds_whenSomeReviewsExist_shouldReturnExistingReviewsInRequestedOrder() {
+        setupWireMockForRegistrationClientPositiveAnswer();
+        setupWireMockForEventClientPositiveAnswer();
+        Long userId = 2L;
+        Long unknownId = 999L;
+        Review firstReview = reviewService.createReview(createReview(1), userId);
+        Review secondReview = reviewService.createReview(createReview(2), userId);
+
+        List<Review> reviews = reviewService.findReviewsByIds(List.of(secondReview.getId(), unknownId,
+                firstReview.getId(), secondReview.getId()), userId);
+
+        assertThat(reviews.stream().map(Review::getId).toList(),
+                contains(secondReview.getId(), firstReview.getId()));
+        assertThat(reviews.get(0).getTitle(), is(secondReview.getTitle()));
+    }
+
+    @Test
+    @DisplayName("Find reviews by ids, too many ids")
+    void findReviewsByIds_whenTooManyIds_shouldThrowValidationException() {
+        Long userId = 2L;
+        List<Long> ids = LongStream.rangeClosed(1, 201).boxed().toList();
+
+        ValidationException ex = assertThrows(ValidationException.class,
+                () -> reviewService.findReviewsByIds(ids, userId));
+
+        assertThat(ex.getMessage(), is("Number of review ids must be between 1 and 200"));
+    }
+
     @Test
     @DisplayName("Find reviews by event id, no reviews exist")
     void findReviewsByEventId_whenNoReviewsExists_shouldReturnEmptyList() {
@@ -250,7 +297,7 @@ class ReviewServiceImplTest {
         Integer page = 0;
         Integer size = 13;
 
-        List<Review> reviews = reviewService.findReviewsByEventId(eventId, page, size, userId);
+        List<ReviewDto> reviews = reviewService.findReviewsByEventId(eventId, page, size, userId);
 
         assertThat(reviews, notNullValue());
         assertThat(reviews, emptyIterable());
@@ -273,13 +320,40 @@ class ReviewServiceImplTest {
         Review savedReview1 = reviewService.createReview(review1, userId);
         Review savedReview2 = reviewService.createReview(review2, userId);
         reviewService.createReview(review3, userId);
+        reviewService.addLikeOrDislike(savedReview2.getId(), userId + 1, true);
 
-        List<Review> reviews = reviewService.findReviewsByEventId(review1.getEventId(), page, size, userId);
+        List<ReviewDto> reviews = reviewService.findReviewsByEventId(review1.getEventId(), page, size, userId);
 
         assertThat(reviews, notNullValue());
         assertThat(reviews.size(), is(2));
-        assertThat(reviews.get(0).getId(), is(savedReview1.getId()));
-        assertThat(reviews.get(1).getId(), is(savedReview2.getId()));
+        assertThat(reviews.get(0).id(), is(savedReview1.getId()));
+        assertThat(reviews.get(0).numberOfLikes(), is(0L));
+        assertThat(reviews.get(1).id(), is(savedReview2.getId()));
+        assertThat(reviews.get(1).title(), is(savedReview2.getTitle()));
+        assertThat(reviews.get(1).numberOfLikes(), is(1L));
+    }
+
+    @Test
+    @DisplayName("Find reviews by event id after cursor")
+    void findReviewsByEventIdAfter_whenThreeReviewsOfEvent_shouldReturnPagesInCreationOrder() {
+        setupWireMockForRegistrationClientPositiveAnswer();
+        setupWireMockForEventClientPositiveAnswer();
+        Long userId = 2L;
+        Integer size = 2;
+
+        Review savedReview1 = reviewService.createReview(createReview(1), userId);
+        Review savedReview2 = reviewService.createReview(createReview(2), userId);
+        Review savedReview3 = reviewService.createReview(createReview(3), userId);
+
+        List<ReviewDto> firstPage = reviewService.findReviewsByEventIdAfter(savedReview1.getEventId(), null, size, userId);
+        ReviewCursor cursor = ReviewCursor.decode(ReviewCursor.of(firstPage.get(1)).encode());
+        List<ReviewDto> secondPage = reviewService.findReviewsByEventIdAfter(savedReview1.getEventId(), cursor, size, userId);
+
+        assertThat(firstPage.size(), is(2));
+        assertThat(firstPage.get(0).id(), is(savedReview1.getId()));
+        assertThat(firstPage.get(1).id(), is(savedReview2.getId()));
+        assertThat(secondPage.size(), is(1));
+        assertThat(secondPage.get(0).id(), is(savedReview3.getId()));
     }
 
     @Test
@@ -330,6 +404,79 @@ class ReviewServiceImplTest {
         assertThat(ex.getMessage(), is("Review with id '" + unknownId + "' was not found"));
     }
 
+    @Test
+    @DisplayName("Vote changes review ETag and changes event ETag only with event stats")
+    void addLike_whenVoteChangesCounters_shouldChangeETags() {
+        setupWireMockForRegistrationClientPositiveAnswer();
+        setupWireMockForEventClientPositiveAnswer();
+        Long userId = 2L;
+        Review savedReview = reviewService.createReview(createReview(7), userId);
+        String reviewETag = eTagService.getReviewsETag(List.of(savedReview.getId()));
+        String eventETag = eTagService.getEventETag(savedReview.getEventId());
+
+        assertThat(eTagService.getReviewsETag(List.of(savedReview.getId())), is(reviewETag));
+        assertThat(eTagService.getEventETag(savedReview.getEventId()), is(eventETag));
+
+        reviewService.addLikeOrDislike(savedReview.getId(), userId + 1, true);
+
+        assertThat(reviewETag, notNullValue());
+        assertThat(eTagService.getReviewsETag(List.of(savedReview.getId())), not(reviewETag));
+        assertThat(eTagService.getEventETag(savedReview.getEventId()), is(eventETag));
+
+        reviewService.addLikeOrDislike(savedReview.getId(), userId + 2, false);
+        reviewService.addLikeOrDislike(savedReview.getId(), userId + 3, false);
+
+        assertThat(eTagService.getEventETag(savedReview.getEventId()), not(eventETag));
+    }
+
+    @Test
+    @DisplayName("Deleting review changes event ETag")
+    void deleteReviewById_whenReviewDeleted_shouldChangeEventETag() {
+        setupWireMockForRegistrationClientPositiveAnswer();
+        setupWireMockForEventClientPositiveAnswer();
+        Long userId = 2L;
+        Review savedReview = reviewService.createReview(createReview(8), userId);
+        String eventETag = eTagService.getEventETag(savedReview.getEventId());
+
+        reviewService.deleteReviewById(savedReview.getId(), userId);
+
+        assertThat(eTagService.getEventETag(savedReview.getEventId()), not(eventETag));
+    }
+
+    @Test
+    @DisplayName("Vote changes review and event reviews ETags")
+    void addLike_whenVoteChangesCounters_shouldChangeReviewAndEventReviewsETags() {
+        setupWireMockForRegistrationClientPositiveAnswer();
+        setupWireMockForEventClientPositiveAnswer();
+        Long userId = 2L;
+        Review savedReview = reviewService.createReview(createReview(9), userId);
+        String reviewETag = eTagService.getReviewETag(savedReview.getId());
+        String eventReviewsETag = eTagService.getEventReviewsETag(savedReview.getEventId(), 0, 10);
+
+        assertThat(eTagService.getReviewETag(savedReview.getId()), is(reviewETag));
+        assertThat(eTagService.getEventReviewsETag(savedReview.getEventId(), 0, 10), is(eventReviewsETag));
+        assertThat(eTagService.getEventReviewsETag(savedReview.getEventId(), 1, 10), not(eventReviewsETag));
+
+        reviewService.addLikeOrDislike(savedReview.getId(), userId + 1, true);
+
+        assertThat(reviewETag, notNullValue());
+        assertThat(eTagService.getReviewETag(savedReview.getId()), not(reviewETag));
+        assertThat(eTagService.getEventReviewsETag(savedReview.getEventId(), 0, 10), not(eventReviewsETag));
+    }
+
+    @Test
+    @DisplayName("Deleted review has no version ETag")
+    void getReviewETag_whenReviewDeleted_shouldReturnNull() {
+        setupWireMockForRegistrationClientPositiveAnswer();
+        setupWireMockForEventClientPositiveAnswer();
+        Long userId = 2L;
+        Review savedReview = reviewService.createReview(createReview(10), userId);
+
+        reviewService.deleteReviewById(savedReview.getId(), userId);
+
+        assertThat(eTagService.getReviewETag(savedReview.getId()), nullValue());
+    }
+
     @Test
     @DisplayName("Add like")
     void addLike_whenReviewExists_shouldReturnReview() {
@@ -523,7 +670,7 @@ class ReviewServiceImplTest {
         setupWireMockForEventClientPositiveAnswer();
         Long eventId = 11L;
 
-        TopReviews topReviews = reviewService.getTopReviews(eventId);
+        TopReviewsDto topReviews = reviewService.getTopReviews(eventId);
 
         assertThat(topReviews, notNullValue());
         assertThat(topReviews.bestReviews(), emptyIterable());
@@ -557,17 +704,19 @@ class ReviewServiceImplTest {
         reviewService.addLikeOrDislike(savedReview4.getId(), userId + 2, false);
         reviewService.addLikeOrDislike(savedReview4.getId(), userId + 1, false);
 
-        TopReviews topReviews = reviewService.getTopReviews(review1.getEventId());
+        TopReviewsDto topReviews = reviewService.getTopReviews(review1.getEventId());
 
         assertThat(topReviews, notNullValue());
         assertThat(topReviews.bestReviews().size(), is(3));
-        assertThat(topReviews.bestReviews().get(0).getId(), is(savedReview1.getId()));
-        assertThat(topReviews.bestReviews().get(1).getId(), is(savedReview3.getId()));
-        assertThat(topReviews.bestReviews().get(2).getId(), is(savedReview2.getId()));
+        assertThat(topReviews.bestReviews().get(0).id(), is(savedReview1.getId()));
+        assertThat(topReviews.bestReviews().get(0).numberOfLikes(), is(2L));
+        assertThat(topReviews.bestReviews().get(1).id(), is(savedReview3.getId()));
+        assertThat(topReviews.bestReviews().get(2).id(), is(savedReview2.getId()));
         assertThat(topReviews.worstReviews().size(), is(3));
-        assertThat(topReviews.worstReviews().get(0).getId(), is(savedReview4.getId()));
-        assertThat(topReviews.worstReviews().get(1).getId(), is(savedReview2.getId()));
-        assertThat(topReviews.worstReviews().get(2).getId(), is(savedReview3.getId()));
+        assertThat(topReviews.worstReviews().get(0).id(), is(savedReview4.getId()));
+        assertThat(topReviews.worstReviews().get(0).numberOfDislikes(), is(2L));
+        assertThat(topReviews.worstReviews().get(1).id(), is(savedReview2.getId()));
+        assertThat(topReviews.worstReviews().get(2).id(), is(savedReview3.getId()));
     }
 
     @Test
@@ -587,15 +736,15 @@ class ReviewServiceImplTest {
         reviewService.addLikeOrDislike(savedReview2.getId(), userId + 1, false);
 
 
-        TopReviews topReviews = reviewService.getTopReviews(review1.getEventId());
+        TopReviewsDto topReviews = reviewService.getTopReviews(review1.getEventId());
 
         assertThat(topReviews, notNullValue());
         assertThat(topReviews.bestReviews().size(), is(2));
-        assertThat(topReviews.bestReviews().get(0).getId(), is(savedReview1.getId()));
-        assertThat(topReviews.bestReviews().get(1).getId(), is(savedReview2.getId()));
+        assertThat(topReviews.bestReviews().get(0).id(), is(savedReview1.getId()));
+        assertThat(topReviews.bestReviews().get(1).id(), is(savedReview2.getId()));
         assertThat(topReviews.worstReviews().size(), is(2));
-        assertThat(topReviews.worstReviews().get(0).getId(), is(savedReview2.getId()));
-        assertThat(topReviews.worstReviews().get(1).getId(), is(savedReview1.getId()));
+        assertThat(topReviews.worstReviews().get(0).id(), is(savedReview2.getId()));
+        assertThat(topReviews.worstReviews().get(1).id(), is(savedReview1.getId()));
     }
 
     @Test
@@ -654,6 +803,70 @@ class ReviewServiceImplTest {
         assertThat(ex.getMessage(), is("User " + newReview.getUsername() + " not approved by event with id = " + eventId));
     }
 
+    @Test
+    @DisplayName("Create reviews in batch, remote services are called once per event")
+    void createReviews_whenAllReviewsAreValid_shouldCreateAllReviews() {
+        setupWireMockForRegistrationClientPositiveAnswer();
+        setupWireMockForEventClientPositiveAnswer();
+        resetAllRequests();
+        Long userId = 2L;
+        List<Review> newReviews = List.of(createReview(1), createReview(2), createReview(3));
+
+        List<ReviewCreationResult> results = reviewService.createReviews(newReviews, userId);
+
+        assertThat(results.size(), is(3));
+        for (int i = 0; i < results.size(); i++) {
+            ReviewCreationResult result = results.get(i);
+            assertThat(result.isCreated(), is(true));
+            assertThat(result.review().getId(), greaterThan(0L));
+            assertThat(result.review().getAuthorId(), is(userId));
+            assertThat(result.review().getCreatedDateTime(), notNullValue());
+            assertThat(result.review().getTitle(), is(newReviews.get(i).getTitle()));
+            Review foundReview = reviewService.findReviewById(result.review().getId(), userId);
+            assertThat(foundReview.getTitle(), is(newReviews.get(i).getTitle()));
+        }
+        verify(1, getRequestedFor(urlPathMatching("/events/\\d+")));
+        verify(1, getRequestedFor(urlPathMatching("/events/teams/\\d+")));
+        verify(1, getRequestedFor(urlPathMatching("/registrations/search")));
+    }
+
+    @Test
+    @DisplayName("Create reviews in batch, invalid review does not prevent others")
+    void createReviews_whenOneUserNotApproved_shouldCreateOtherReviews() {
+        setupWireMockForRegistrationClientPositiveAnswer();
+        setupWireMockForEventClientPositiveAnswer();
+        Long userId = 2L;
+        Review notApprovedReview = createReview(2);
+        notApprovedReview.setUsername("other_user");
+        List<Review> newReviews = List.of(createReview(1), notApprovedReview, createReview(3));
+
+        List<ReviewCreationResult> results = reviewService.createReviews(newReviews, userId);
+
+        assertThat(results.get(0).isCreated(), is(true));
+        assertThat(results.get(1).isCreated(), is(false));
+        assertThat(results.get(1).review().getId(), nullValue());
+        assertThat(results.get(1).error().getMessage(), is("User other_user not approved by event with id = 4"));
+        assertThat(results.get(2).isCreated(), is(true));
+        assertThat(results.get(2).review().getId(), greaterThan(results.get(0).review().getId()));
+    }
+
+    @Test
+    @DisplayName("Create reviews in batch, user not team member")
+    void createReviews_whenUserNotTeamMember_shouldRejectAllReviewsOfEvent() {
+        setupWireMockForRegistrationClientPositiveAnswer();
+        setupWireMockForEventClientNegativeAnswerForUserNotTeamMember();
+        Long userId = 999L;
+
+        List<ReviewCreationResult> results = reviewService.createReviews(List.of(createReview(1), createReview(2)),
+                userId);
+
+        assertThat(results.size(), is(2));
+        results.forEach(result -> {
+            assertThat(result.isCreated(), is(false));
+            assertThat(result.error() instanceof NotAuthorizedException, is(true));
+        });
+    }
+
     private Review createReview(int id) {
         return Review.builder()
                 .title("review title " + id)
@@ -0,0 +1,127 @@
+package ru.mssecondteam.reviewservice.service.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import ru.mssecondteam.reviewservice.dto.ReviewDto;
+import ru.mssecondteam.reviewservice.exception.NotFoundException;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ReviewCacheTest {
+
+    private static final Long REVIEW_ID = 1L;
+
+    private Cache<Long, VersionedReview> reviewsCache;
+
+    private ReviewCache reviewCache;
+
+    private AtomicInteger loads;
+
+    @BeforeEach
+    void setUp() {
+        reviewsCache = Caffeine.newBuilder()
+                .maximumSize(10)
+                .recordStats()
+                .build();
+        reviewCache = new ReviewCache(reviewsCache);
+        loads = new AtomicInteger();
+    }
+
+    @Test
+    @DisplayName("Review is loaded once and then served from cache")
+    void get_whenCalledTwice_shouldLoadOnce() {
+        reviewCache.get(REVIEW_ID, id -> load(id, 1));
+        ReviewDto review = reviewCache.get(REVIEW_ID, id -> load(id, 2));
+
+        assertThat(review.numberOfLikes(), is(1L));
+        assertThat(loads.get(), is(1));
+        assertThat(reviewsCache.stats().hitCount(), is(1L));
+        assertThat(reviewsCache.stats().missCount(), is(1L));
+    }
+
+    @Test
+    @DisplayName("Review cached under another version is loaded again")
+    void get_whenCachedVersionDiffers_shouldReload() {
+        reviewCache.get(REVIEW_ID, "v1", id -> load(id, 1));
+        ReviewDto sameVersionReview = reviewCache.get(REVIEW_ID, "v1", id -> load(id, 2));
+        ReviewDto newVersionReview = reviewCache.get(REVIEW_ID, "v2", id -> load(id, 3));
+
+        assertThat(sameVersionReview.numberOfLikes(), is(1L));
+        assertThat(newVersionReview.numberOfLikes(), is(3L));
+        assertThat(loads.get(), is(2));
+    }
+
+    @Test
+    @DisplayName("Evicted review is loaded again")
+    void get_whenReviewWasEvicted_shouldReload() {
+        reviewCache.get(REVIEW_ID, id -> load(id, 1));
+
+        reviewCache.evict(REVIEW_ID);
+        ReviewDto review = reviewCache.get(REVIEW_ID, id -> load(id, 2));
+
+        assertThat(review.numberOfLikes(), is(2L));
+        assertThat(loads.get(), is(2));
+    }
+
+    @Test
+    @DisplayName("Review loaded before eviction is not cached")
+    void get_whenReviewIsEvictedDuringLoad_shouldNotCacheStaleReview() {
+        ReviewDto staleReview = reviewCache.get(REVIEW_ID, id -> {
+            final ReviewDto review = load(id, 1);
+            reviewCache.evict(id);
+            return review;
+        });
+        ReviewDto review = reviewCache.get(REVIEW_ID, id -> load(id, 2));
+
+        assertThat(staleReview.numberOfLikes(), is(1L));
+        assertThat(review.numberOfLikes(), is(2L));
+        assertThat(loads.get(), is(2));
+    }
+
+    @Test
+    @DisplayName("Missing review is not cached")
+    void get_whenReviewNotFound_shouldNotCacheAnything() {
+        assertThrows(NotFoundException.class, () -> reviewCache.get(REVIEW_ID, id -> {
+            throw new NotFoundException("Review was not found");
+        }));
+
+        assertThat(reviewsCache.estimatedSize(), is(0L));
+    }
+
+    @Test
+    @DisplayName("All reviews are evicted")
+    void evictAll_shouldReloadEveryReview() {
+        reviewCache.get(REVIEW_ID, id -> load(id, 1));
+        reviewCache.get(REVIEW_ID + 1, id -> load(id, 1));
+
+        reviewCache.evictAll();
+        reviewCache.get(REVIEW_ID, id -> load(id, 2));
+        reviewCache.get(REVIEW_ID + 1, id -> load(id, 2));
+
+        assertThat(loads.get(), is(4));
+    }
+
+    private ReviewDto load(Long reviewId, long likes) {
+        loads.incrementAndGet();
+        return ReviewDto.builder()
+                .id(reviewId)
+                .title("title" + reviewId)
+                .content("content" + reviewId)
+                .username("username" + reviewId)
+                .mark(5)
+                .eventId(1L)
+                .createdDateTime(LocalDateTime.of(2024, 10, 10, 12, 0))
+                .updatedDateTime(LocalDateTime.of(2024, 10, 10, 12, 0))
+                .numberOfLikes(likes)
+                .numberOfDislikes(0L)
+                .build();
+    }
+}
@@ -0,0 +1,287 @@
+package ru.mssecondteam.reviewservice.service.export;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.context.request.async.AsyncRequestTimeoutException;
+import org.springframework.web.context.request.async.WebAsyncTask;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import ru.mssecondteam.reviewservice.dto.ReviewDto;
+import ru.mssecondteam.reviewservice.dto.ReviewExportTrailer;
+import ru.mssecondteam.reviewservice.exception.TooManyRequestsException;
+import ru.mssecondteam.reviewservice.repository.ReviewRepository;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+import java.util.zip.GZIPInputStream;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE)
+@Testcontainers
+@TestPropertySource(properties = {
+        "app.reviews-export.chunk-size=2",
+        "app.reviews-export.max-concurrent=1"
+})
+class ReviewExportServiceImplTest {
+
+    private static final AtomicLong EVENT_IDS = new AtomicLong(1000);
+
+    @Container
+    @ServiceConnection
+    private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @Autowired
+    private ReviewExportService reviewExportService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @SpyBean
+    private ReviewRepository reviewRepository;
+
+    @DynamicPropertySource
+    static void configureProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", POSTGRES::getJdbcUrl);
+        registry.add("spring.datasource.username", POSTGRES::getUsername);
+        registry.add("spring.datasource.password", POSTGRES::getPassword);
+    }
+
+    @BeforeAll
+    static void beforeAll() {
+        POSTGRES.start();
+    }
+
+    @AfterAll
+    static void afterAll() {
+        POSTGRES.stop();
+    }
+
+    @Test
+    @DisplayName("Export writes every review with counters and a row count trailer")
+    @SneakyThrows
+    void exportEventReviews_shouldWriteReviewsAndTrailer() {
+        Long eventId = EVENT_IDS.incrementAndGet();
+        List<Long> reviewsIds = createReviews(eventId, 5);
+        createReviews(EVENT_IDS.incrementAndGet(), 2);
+        jdbcTemplate.update("update reviews set number_of_likes = 3, number_of_dislikes = 1 where review_id = ?",
+                reviewsIds.get(1));
+
+        List<String> lines = export(eventId, false);
+
+        assertThat(lines, hasSize(6));
+        List<ReviewDto> reviews = lines.subList(0, 5).stream()
+                .map(this::toReviewDto)
+                .toList();
+        assertThat(reviews.stream().map(ReviewDto::id).toList(), contains(reviewsIds.toArray()));
+        assertThat(reviews.get(1).numberOfLikes(), is(3L));
+        assertThat(reviews.get(1).numberOfDislikes(), is(1L));
+        assertThat(reviews.get(0).eventId(), is(eventId));
+        ReviewExportTrailer trailer = objectMapper.readValue(lines.get(5), ReviewExportTrailer.class);
+        assertThat(trailer.eventId(), is(eventId));
+        assertThat(trailer.rowCount(), is(5L));
+    }
+
+    @Test
+    @DisplayName("Export pages through reviews with equal creation time without gaps or duplicates")
+    @SneakyThrows
+    void exportEventReviews_whenReviewsShareCreationTime_shouldWriteEveryReviewOnce() {
+        Long eventId = EVENT_IDS.incrementAndGet();
+        List<Long> reviewsIds = createReviews(eventId, 4);
+        jdbcTemplate.update("update reviews set created_at = ? where event_id = ?",
+                LocalDateTime.of(2024, 10, 10, 12, 0), eventId);
+
+        List<String> lines = export(eventId, false);
+
+        assertThat(lines, hasSize(5));
+        assertThat(lines.subList(0, 4).stream().map(this::toReviewDto).map(ReviewDto::id).toList(),
+                contains(reviewsIds.toArray()));
+        assertThat(objectMapper.readValue(lines.get(4), ReviewExportTrailer.class).rowCount(), is(4L));
+    }
+
+    @Test
+    @DisplayName("Export of event without reviews writes only the trailer")
+    @SneakyThrows
+    void exportEventReviews_whenEventHasNoReviews_shouldWriteOnlyTrailer() {
+        Long eventId = EVENT_IDS.incrementAndGet();
+
+        List<String> lines = export(eventId, false);
+
+        assertThat(lines, hasSize(1));
+        assertThat(objectMapper.readValue(lines.get(0), ReviewExportTrailer.class).rowCount(), is(0L));
+    }
+
+    @Test
+    @DisplayName("Gzip export contains the same lines")
+    @SneakyThrows
+    void exportEventReviews_whenGzip_shouldWriteCompressedNdjson() {
+        Long eventId = EVENT_IDS.incrementAndGet();
+        createReviews(eventId, 3);
+
+        List<String> plainLines = export(eventId, false);
+        List<String> gzipLines = export(eventId, true);
+
+        assertThat(gzipLines, is(plainLines));
+    }
+
+    @Test
+    @DisplayName("Export is rejected when all permits are taken and allowed after the running export ends")
+    @SneakyThrows
+    void exportEventReviews_whenTooManyExports_shouldThrowTooManyRequestsException() {
+        Long eventId = EVENT_IDS.incrementAndGet();
+        createReviews(eventId, 1);
+
+        WebAsyncTask<Void> runningExport = reviewExportService.exportEventReviews(eventId, false,
+                new MockHttpServletResponse());
+        TooManyRequestsException ex = assertThrows(TooManyRequestsException.class,
+                () -> reviewExportService.exportEventReviews(eventId, false, new MockHttpServletResponse()));
+        runningExport.getCallable().call();
+
+        assertThat(ex.getMessage(), is("Only '1' reviews exports can run at the same time"));
+        assertThat(export(eventId, false), hasSize(2));
+    }
+
+    @Test
+    @DisplayName("Export permit is released when the request completes without running the export")
+    @SneakyThrows
+    void exportEventReviews_whenExportNeverRuns_shouldReleasePermitOnCompletion() {
+        Long eventId = EVENT_IDS.incrementAndGet();
+        createReviews(eventId, 1);
+
+        WebAsyncTask<Void> abandonedExport = reviewExportService.exportEventReviews(eventId, false,
+                new MockHttpServletResponse());
+        Runnable completionCallback = (Runnable) ReflectionTestUtils.getField(abandonedExport, "completionCallback");
+        completionCallback.run();
+        completionCallback.run();
+
+        assertThat(export(eventId, false), hasSize(2));
+        assertThat(export(eventId, false), hasSize(2));
+    }
+
+    @Test
+    @DisplayName("Export timing out after the first chunk ends the stream with an error trailer")
+    @SneakyThrows
+    void exportEventReviews_whenTimedOutAfterFirstChunk_shouldAbortStreamWithErrorTrailer() {
+        Long eventId = EVENT_IDS.incrementAndGet();
+        List<Long> reviewsIds = createReviews(eventId, 5);
+        CountDownLatch firstChunkWritten = new CountDownLatch(1);
+        CountDownLatch timedOut = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            firstChunkWritten.countDown();
+            timedOut.await();
+            return invocation.callRealMethod();
+        }).when(reviewRepository).findReviewDtosByEventIdAfter(eq(eventId), any(), any(), anyInt());
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        WebAsyncTask<Void> timedOutExport = reviewExportService.exportEventReviews(eventId, false, response);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        Future<?> exportResult = executor.submit(timedOutExport.getCallable());
+
+        assertThat(firstChunkWritten.await(10, TimeUnit.SECONDS), is(true));
+        Callable<?> timeoutCallback = (Callable<?>) ReflectionTestUtils.getField(timedOutExport, "timeoutCallback");
+        Object timeoutResult = timeoutCallback.call();
+        timedOut.countDown();
+        ExecutionException ex = assertThrows(ExecutionException.class,
+                () -> exportResult.get(10, TimeUnit.SECONDS));
+        executor.shutdown();
+
+        assertThat(timeoutResult, nullValue());
+        assertThat(ex.getCause(), instanceOf(InterruptedIOException.class));
+        String content = response.getContentAsString();
+        assertThat(content.endsWith("\n"), is(true));
+        List<String> lines = content.lines().toList();
+        assertThat(lines, hasSize(3));
+        assertThat(lines.subList(0, 2).stream().map(this::toReviewDto).map(ReviewDto::id).toList(),
+                contains(reviewsIds.subList(0, 2).toArray()));
+        ReviewExportTrailer trailer = objectMapper.readValue(lines.get(2), ReviewExportTrailer.class);
+        assertThat(trailer.eventId(), is(eventId));
+        assertThat(trailer.rowCount(), is(2L));
+        assertThat(trailer.error(), is(ReviewExportStream.TIMEOUT_ERROR));
+        assertThat(export(eventId, false), hasSize(6));
+    }
+
+    @Test
+    @DisplayName("Export timing out before anything was written leaves the response to the error handler")
+    @SneakyThrows
+    void exportEventReviews_whenTimedOutBeforeFirstChunk_shouldThrowAsyncRequestTimeoutException() {
+        Long eventId = EVENT_IDS.incrementAndGet();
+        createReviews(eventId, 1);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        WebAsyncTask<Void> timedOutExport = reviewExportService.exportEventReviews(eventId, false, response);
+
+        Callable<?> timeoutCallback = (Callable<?>) ReflectionTestUtils.getField(timedOutExport, "timeoutCallback");
+        assertThrows(AsyncRequestTimeoutException.class, timeoutCallback::call);
+        assertThrows(InterruptedIOException.class, () -> timedOutExport.getCallable().call());
+
+        assertThat(response.getContentAsByteArray().length, is(0));
+        assertThat(export(eventId, false), hasSize(2));
+    }
+
+    @SneakyThrows
+    private List<String> export(Long eventId, boolean gzip) {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        reviewExportService.exportEventReviews(eventId, gzip, response).getCallable().call();
+        try (InputStream inputStream = gzip
+                ? new GZIPInputStream(new ByteArrayInputStream(response.getContentAsByteArray()))
+                : new ByteArrayInputStream(response.getContentAsByteArray())) {
+            String content = new String(inputStream.readAllBytes(), StandardCharsets.UTF_8);
+            assertThat(content.endsWith("\n"), is(true));
+            return content.lines().toList();
+        }
+    }
+
+    @SneakyThrows
+    private ReviewDto toReviewDto(String line) {
+        return objectMapper.readValue(line, ReviewDto.class);
+    }
+
+    private List<Long> createReviews(Long eventId, int count) {
+        final LocalDateTime createdAt = LocalDateTime.of(2024, 10, 10, 12, 0);
+        return IntStream.range(0, count)
+                .mapToObj(i -> jdbcTemplate.queryForObject("insert into reviews (title, content, author_id, " +
+                                "username, mark, event_id, created_at, updated_at) values ('title', 'content', 1, " +
+                                "'username', 7, ?, ?, ?) returning review_id",
+                        Long.class, eventId, createdAt.plusMinutes(i), createdAt.plusMinutes(i)))
+                .toList();
+    }
+}
@@ -0,0 +1,219 @@
+package ru.mssecondteam.reviewservice.service.invalidation;
+
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.actuate.health.Status;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import ru.mssecondteam.reviewservice.dto.ReviewDto;
+import ru.mssecondteam.reviewservice.service.cache.ReviewCache;
+import ru.mssecondteam.reviewservice.service.top.TopReviewsIndex;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.anyOf;
+import static org.hamcrest.Matchers.arrayWithSize;
+import static org.hamcrest.Matchers.emptyArray;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.mockito.Mockito.doThrow;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE)
+@Testcontainers
+class CacheInvalidationTest {
+
+    private static final String OTHER_NODE_ID = "other-node";
+
+    private static final long TIMEOUT_MILLIS = 10_000;
+
+    @Container
+    @ServiceConnection
+    private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @Autowired
+    private CacheInvalidationPublisher cacheInvalidationPublisher;
+
+    @Autowired
+    private ReviewCache reviewCache;
+
+    @Autowired
+    private CacheInvalidationHealthIndicator cacheInvalidationHealthIndicator;
+
+    @SpyBean
+    private TopReviewsIndex topReviewsIndex;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @DynamicPropertySource
+    static void configureProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", POSTGRES::getJdbcUrl);
+        registry.add("spring.datasource.username", POSTGRES::getUsername);
+        registry.add("spring.datasource.password", POSTGRES::getPassword);
+    }
+
+    @BeforeAll
+    static void beforeAll() {
+        POSTGRES.start();
+    }
+
+    @AfterAll
+    static void afterAll() {
+        POSTGRES.stop();
+    }
+
+    @Test
+    @SneakyThrows
+    @DisplayName("Invalidations of one transaction are sent as one notification on commit")
+    void publish_inTransaction_shouldSendOneNotificationAfterCommit() {
+        try (Connection connection = listen()) {
+            transactionTemplate.executeWithoutResult(status -> {
+                cacheInvalidationPublisher.publishReviewChanged(1L, 5L);
+                cacheInvalidationPublisher.publishReviewChanged(2L, 5L);
+                cacheInvalidationPublisher.publishEventChanged(6L);
+            });
+
+            PGNotification[] notifications = connection.unwrap(PGConnection.class)
+                    .getNotifications((int) TIMEOUT_MILLIS);
+
+            assertThat(notifications, arrayWithSize(1));
+            assertThat(notifications[0].getParameter(), is(cacheInvalidationPublisher.getNodeId() + "|1,2|5,6"));
+        }
+    }
+
+    @Test
+    @SneakyThrows
+    @DisplayName("Invalidations of rolled back transaction are not sent")
+    void publish_whenTransactionRolledBack_shouldNotSendNotification() {
+        try (Connection connection = listen()) {
+            transactionTemplate.executeWithoutResult(status -> {
+                cacheInvalidationPublisher.publishReviewChanged(1L, 5L);
+                status.setRollbackOnly();
+            });
+
+            PGNotification[] notifications = connection.unwrap(PGConnection.class).getNotifications(500);
+
+            assertThat(notifications, anyOf(nullValue(), emptyArray()));
+        }
+    }
+
+    @Test
+    @DisplayName("Invalidation from other node evicts cached review")
+    void listener_whenOtherNodeInvalidatesReview_shouldEvictReview() {
+        awaitListenerReady();
+        AtomicInteger loads = new AtomicInteger();
+        reviewCache.get(1L, id -> load(id, loads));
+
+        notifyFromOtherNode(OTHER_NODE_ID + "|1|");
+
+        awaitReload(1L, loads, 2);
+    }
+
+    @Test
+    @DisplayName("Invalidation from the same node is ignored by listener")
+    void listener_whenNodeReceivesOwnInvalidation_shouldKeepReview() {
+        awaitListenerReady();
+        AtomicInteger loads = new AtomicInteger();
+        AtomicInteger otherLoads = new AtomicInteger();
+        reviewCache.get(3L, id -> load(id, loads));
+        reviewCache.get(4L, id -> load(id, otherLoads));
+
+        notifyFromOtherNode(cacheInvalidationPublisher.getNodeId() + "|3|");
+        notifyFromOtherNode(OTHER_NODE_ID + "|4|");
+
+        awaitReload(4L, otherLoads, 2);
+        reviewCache.get(3L, id -> load(id, loads));
+        assertThat(loads.get(), is(1));
+    }
+
+    @Test
+    @DisplayName("Listener flushes caches and keeps listening when invalidation fails")
+    void listener_whenInvalidationFails_shouldFlushCachesAndKeepListening() {
+        awaitListenerReady();
+        doThrow(new IllegalStateException("Index is broken")).when(topReviewsIndex).evict(99L);
+        AtomicInteger loads = new AtomicInteger();
+        AtomicInteger otherLoads = new AtomicInteger();
+        reviewCache.get(5L, id -> load(id, loads));
+        reviewCache.get(6L, id -> load(id, otherLoads));
+
+        notifyFromOtherNode(OTHER_NODE_ID + "||99");
+
+        awaitReload(5L, loads, 2);
+        reviewCache.get(6L, id -> load(id, otherLoads));
+        assertThat(otherLoads.get(), is(2));
+
+        notifyFromOtherNode(OTHER_NODE_ID + "|6|");
+
+        awaitReload(6L, otherLoads, 3);
+        assertThat(cacheInvalidationHealthIndicator.health().getStatus(), is(Status.UP));
+    }
+
+    private void awaitListenerReady() {
+        AtomicInteger loads = new AtomicInteger();
+        reviewCache.get(-1L, id -> load(id, loads));
+        notifyFromOtherNode(OTHER_NODE_ID + "|*");
+        awaitReload(-1L, loads, 2);
+    }
+
+    @SneakyThrows
+    private void awaitReload(Long reviewId, AtomicInteger loads, int expectedLoads) {
+        final long deadline = System.currentTimeMillis() + TIMEOUT_MILLIS;
+        while (loads.get() < expectedLoads && System.currentTimeMillis() < deadline) {
+            Thread.sleep(50);
+            reviewCache.get(reviewId, id -> load(id, loads));
+        }
+        assertThat(loads.get(), is(expectedLoads));
+    }
+
+    private void notifyFromOtherNode(String payload) {
+        jdbcTemplate.queryForList("select pg_notify(?, ?)", CacheInvalidationPublisher.CHANNEL, payload);
+    }
+
+    @SneakyThrows
+    private Connection listen() {
+        final Connection connection = DriverManager.getConnection(POSTGRES.getJdbcUrl(), POSTGRES.getUsername(),
+                POSTGRES.getPassword());
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("LISTEN " + CacheInvalidationPublisher.CHANNEL);
+        }
+        return connection;
+    }
+
+    private ReviewDto load(Long reviewId, AtomicInteger loads) {
+        loads.incrementAndGet();
+        return ReviewDto.builder()
+                .id(reviewId)
+                .title("title")
+                .content("content")
+                .username("username")
+                .mark(5)
+                .eventId(1L)
+                .createdDateTime(LocalDateTime.of(2024, 10, 10, 12, 0))
+                .updatedDateTime(LocalDateTime.of(2024, 10, 10, 12, 0))
+                .numberOfLikes(0L)
+                .numberOfDislikes(0L)
+                .build();
+    }
+}
@@ -0,0 +1,252 @@
+package ru.mssecondteam.reviewservice.service.like;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import ru.mssecondteam.reviewservice.dto.LikeDto;
+import ru.mssecondteam.reviewservice.dto.ReviewDto;
+import ru.mssecondteam.reviewservice.exception.NotAuthorizedException;
+import ru.mssecondteam.reviewservice.exception.NotFoundException;
+import ru.mssecondteam.reviewservice.repository.ReviewRepository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE)
+@Testcontainers
+@TestPropertySource(properties = {
+        "app.likes.write-behind.enabled=true",
+        "app.likes.write-behind.flush-interval=1h"
+})
+class VoteBufferTest {
+
+    private static final Long AUTHOR_ID = 1L;
+
+    @Container
+    @ServiceConnection
+    private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @Autowired
+    private LikeService likeService;
+
+    @Autowired
+    private VoteBuffer voteBuffer;
+
+    @Autowired
+    private ReviewRepository reviewRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @DynamicPropertySource
+    static void configureProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", POSTGRES::getJdbcUrl);
+        registry.add("spring.datasource.username", POSTGRES::getUsername);
+        registry.add("spring.datasource.password", POSTGRES::getPassword);
+    }
+
+    @BeforeAll
+    static void beforeAll() {
+        POSTGRES.start();
+    }
+
+    @AfterAll
+    static void afterAll() {
+        POSTGRES.stop();
+    }
+
+    @Test
+    @DisplayName("Buffered votes are visible in counters before flush")
+    void addLikeOrDislike_beforeFlush_shouldReturnPendingCounters() {
+        Long reviewId = createReview();
+
+        likeService.addLikeOrDislike(reviewId, 2L, true);
+        likeService.addLikeOrDislike(reviewId, 3L, true);
+        ReviewDto review = likeService.addLikeOrDislike(reviewId, 4L, false);
+
+        assertThat(review.id(), is(reviewId));
+        assertThat(review.numberOfLikes(), is(2L));
+        assertThat(review.numberOfDislikes(), is(1L));
+        assertThat(countLikes(reviewId), is(0));
+
+        LikeDto likeDto = likeService.getNumberOfLikesAndDislikesByReviewId(reviewId);
+        Map<Long, LikeDto> likesDto = likeService.getNumberOfLikesAndDislikesByListReviewsId(List.of(reviewId));
+
+        assertThat(likeDto.numbersOfLikes(), is(2L));
+        assertThat(likeDto.numbersOfDislikes(), is(1L));
+        assertThat(likesDto.get(reviewId), is(likeDto));
+    }
+
+    @Test
+    @DisplayName("Votes of one user are coalesced and flushed as a single row")
+    void flush_whenUserVotedSeveralTimes_shouldPersistLastVote() {
+        Long reviewId = createReview();
+
+        likeService.addLikeOrDislike(reviewId, 2L, true);
+        likeService.addLikeOrDislike(reviewId, 2L, false);
+        likeService.addLikeOrDislike(reviewId, 2L, false);
+        likeService.addLikeOrDislike(reviewId, 3L, true);
+        voteBuffer.flush();
+
+        assertThat(countLikes(reviewId), is(2));
+        assertThat(jdbcTemplate.queryForObject("select is_positive from likes where review_id = ? and user_id = 2",
+                Boolean.class, reviewId), is(false));
+        assertThat(jdbcTemplate.queryForObject("select number_of_likes from reviews where review_id = ?",
+                Long.class, reviewId), is(1L));
+        assertThat(jdbcTemplate.queryForObject("select number_of_dislikes from reviews where review_id = ?",
+                Long.class, reviewId), is(1L));
+        assertThat(likeService.getNumberOfLikesAndDislikesByReviewId(reviewId).numbersOfLikes(), is(1L));
+    }
+
+    @Test
+    @DisplayName("Deleting a persisted vote is flushed as delete")
+    void deleteLikeOrDislike_whenVoteWasFlushed_shouldDeleteRowOnNextFlush() {
+        Long reviewId = createReview();
+        likeService.addLikeOrDislike(reviewId, 2L, true);
+        voteBuffer.flush();
+
+        ReviewDto review = likeService.deleteLikeOrDislike(reviewId, 2L, true);
+
+        assertThat(review.numberOfLikes(), is(0L));
+        assertThat(countLikes(reviewId), is(1));
+        assertThat(likeService.getNumberOfLikesAndDislikesByReviewId(reviewId), nullValue());
+
+        voteBuffer.flush();
+
+        assertThat(countLikes(reviewId), is(0));
+        assertThat(likeService.getNumberOfLikesAndDislikesByReviewId(reviewId), nullValue());
+    }
+
+    @Test
+    @DisplayName("Buffered mode keeps not found and not authorized errors")
+    void addLikeOrDislike_whenVoteIsInvalid_shouldThrowWithoutBuffering() {
+        Long reviewId = createReview();
+
+        NotFoundException likeNotFound = assertThrows(NotFoundException.class,
+                () -> likeService.deleteLikeOrDislike(reviewId, 2L, true));
+        NotFoundException reviewNotFound = assertThrows(NotFoundException.class,
+                () -> likeService.addLikeOrDislike(-1L, 2L, true));
+        assertThrows(NotAuthorizedException.class,
+                () -> likeService.addLikeOrDislike(reviewId, AUTHOR_ID, true));
+
+        assertThat(likeNotFound.getMessage(),
+                is("Like with userId '2' and reviewId '" + reviewId + "' was not found"));
+        assertThat(reviewNotFound.getMessage(), is("Review with id '-1' was not found"));
+        assertThat(likeService.getNumberOfLikesAndDislikesByReviewId(reviewId), nullValue());
+    }
+
+    @Test
+    @DisplayName("Vote toggled back to persisted state is not written")
+    void flush_whenVoteReturnedToPersistedState_shouldKeepRow() {
+        Long reviewId = createReview();
+        likeService.addLikeOrDislike(reviewId, 2L, true);
+        voteBuffer.flush();
+
+        likeService.addLikeOrDislike(reviewId, 2L, false);
+        ReviewDto review = likeService.addLikeOrDislike(reviewId, 2L, true);
+        voteBuffer.flush();
+
+        assertThat(review.numberOfLikes(), is(1L));
+        assertThat(countLikes(reviewId), is(1));
+        LikeDto likeDto = likeService.getNumberOfLikesAndDislikesByReviewId(reviewId);
+        assertThat(likeDto, notNullValue());
+        assertThat(likeDto.numbersOfLikes(), is(1L));
+    }
+
+    @Test
+    @DisplayName("Projected reviews include buffered votes")
+    void getReviewsWithActualCounters_beforeFlush_shouldAddPendingCounters() {
+        Long reviewId = createReview();
+        Long otherReviewId = createReview();
+        likeService.addLikeOrDislike(reviewId, 2L, true);
+        likeService.addLikeOrDislike(reviewId, 3L, false);
+
+        List<ReviewDto> reviews = likeService.getReviewsWithActualCounters(
+                () -> reviewRepository.findReviewDtosByEventId(1L, 0, 1000));
+
+        ReviewDto review = findById(reviews, reviewId);
+        ReviewDto otherReview = findById(reviews, otherReviewId);
+        assertThat(review.numberOfLikes(), is(1L));
+        assertThat(review.numberOfDislikes(), is(1L));
+        assertThat(otherReview.numberOfLikes(), is(0L));
+        assertThat(otherReview.numberOfDislikes(), is(0L));
+    }
+
+    @Test
+    @DisplayName("Pending version depends only on buffered counters of requested reviews")
+    void getPendingVersion_whenVotesAreBuffered_shouldDescribeRequestedReviews() {
+        Long reviewId = createReview();
+        Long otherReviewId = createReview();
+        likeService.addLikeOrDislike(reviewId, 2L, true);
+        likeService.addLikeOrDislike(reviewId, 3L, false);
+        likeService.addLikeOrDislike(reviewId, 4L, false);
+
+        assertThat(voteBuffer.getPendingVersion(List.of(otherReviewId)), is(""));
+        assertThat(voteBuffer.getPendingVersion(List.of(otherReviewId, reviewId)), is(reviewId + ":1:2"));
+
+        likeService.addLikeOrDislike(otherReviewId, 2L, true);
+
+        assertThat(voteBuffer.getPendingVersion(List.of(reviewId)), is(reviewId + ":1:2"));
+
+        voteBuffer.flush();
+
+        assertThat(voteBuffer.getPendingVersion(List.of(reviewId, otherReviewId)), is(""));
+    }
+
+    @Test
+    @DisplayName("Full buffer is flushed by flush executor before vote is accepted")
+    void addLikeOrDislike_whenBufferIsFull_shouldFlushAndAcceptVote() {
+        Long reviewId = createReview();
+        likeService.addLikeOrDislike(reviewId, 2L, true);
+        Semaphore bufferSlots = (Semaphore) ReflectionTestUtils.getField(voteBuffer, "bufferSlots");
+        bufferSlots.drainPermits();
+
+        ReviewDto review = likeService.addLikeOrDislike(reviewId, 3L, true);
+
+        assertThat(review.numberOfLikes(), is(2L));
+        assertThat(countLikes(reviewId), is(1));
+
+        voteBuffer.flush();
+
+        assertThat(countLikes(reviewId), is(2));
+    }
+
+    private ReviewDto findById(List<ReviewDto> reviews, Long reviewId) {
+        return reviews.stream()
+                .filter(review -> review.id().equals(reviewId))
+                .findFirst()
+                .orElseThrow();
+    }
+
+    private Long createReview() {
+        final LocalDateTime now = LocalDateTime.now();
+        return jdbcTemplate.queryForObject("insert into reviews (title, content, author_id, username, mark, " +
+                        "event_id, created_at, updated_at) values ('title', 'content', ?, 'username', 7, 1, ?, ?) " +
+                        "returning review_id",
+                Long.class, AUTHOR_ID, now, now);
+    }
+
+    private int countLikes(Long reviewId) {
+        return jdbcTemplate.queryForObject("select count(*) from likes where review_id = ?", Integer.class, reviewId);
+    }
+}
@@ -12,6 +12,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
 import org.springframework.cloud.contract.wiremock.AutoConfigureWireMock;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.test.context.DynamicPropertyRegistry;
 import org.springframework.test.context.DynamicPropertySource;
 import org.springframework.test.context.TestPropertySource;
@@ -20,6 +21,7 @@ import org.testcontainers.containers.PostgreSQLContainer;
 import org.testcontainers.junit.jupiter.Container;
 import org.testcontainers.junit.jupiter.Testcontainers;
 import ru.mssecondteam.reviewservice.dto.EventReviewStats;
+import ru.mssecondteam.reviewservice.dto.ReviewUpdateRequest;
 import ru.mssecondteam.reviewservice.dto.UserReviewStats;
 import ru.mssecondteam.reviewservice.dto.event.EventDto;
 import ru.mssecondteam.reviewservice.dto.event.TeamMemberDto;
@@ -31,6 +33,7 @@ import ru.mssecondteam.reviewservice.service.ReviewService;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 
 import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
 import static com.github.tomakehurst.wiremock.client.WireMock.equalTo;
@@ -39,6 +42,7 @@ import static com.github.tomakehurst.wiremock.client.WireMock.matching;
 import static com.github.tomakehurst.wiremock.client.WireMock.stubFor;
 import static com.github.tomakehurst.wiremock.client.WireMock.urlPathMatching;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.empty;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.notNullValue;
 import static org.hamcrest.Matchers.nullValue;
@@ -51,7 +55,10 @@ import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
 @AutoConfigureWireMock(port = 0)
 @TestPropertySource(properties = {
         "app.event-service.url=http://localhost:${wiremock.server.port}",
-        "app.registration-service.url=http://localhost:${wiremock.server.port}"
+        "app.registration-service.url=http://localhost:${wiremock.server.port}",
+        "app.event-cache.ttl=0s",
+        "app.event-cache.not-found-ttl=0s",
+        "app.registration-cache.ttl=0s"
 })
 class StatsServiceImplIT {
     @Container
@@ -64,6 +71,9 @@ class StatsServiceImplIT {
     @Autowired
     private ReviewService reviewService;
 
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
     private ObjectMapper objectMapper;
 
     @DynamicPropertySource
@@ -164,6 +174,29 @@ class StatsServiceImplIT {
         assertThat(reviewsStats.negativeReviewsPercentage(), is(Float.valueOf(50)));
     }
 
+    @Test
+    @DisplayName("Get stats for several events")
+    void getEventsReviewsStats_whenOneEventHasReviews_shouldReturnStatsOnlyForIt() {
+        setupWireMockForRegistrationClientPositiveAnswer();
+        setupWireMockForEventClientPositiveAnswer();
+
+        Long userId = 13L;
+        Long unknownEventId = 999L;
+        Review review1 = createReview(5);
+        reviewService.createReview(review1, userId);
+        Review review2 = createReview(8);
+        reviewService.createReview(review2, userId);
+
+        Map<Long, EventReviewStats> eventsStats = statsService.getEventsReviewsStats(
+                List.of(review1.getEventId(), unknownEventId, review1.getEventId()));
+
+        assertThat(eventsStats.size(), is(1));
+        assertThat(eventsStats.get(review1.getEventId()),
+                is(statsService.getEventReviewsStats(review1.getEventId())));
+        assertThat(eventsStats.get(review1.getEventId()).totalNumberOfReviews(), is(2L));
+        assertThat(eventsStats.get(review1.getEventId()).avgMark(), is(6.5F));
+    }
+
     @Test
     @DisplayName("Get event stats, one review with negative rating should not count in avg rating")
     void getEventReviewsStats_whenMultipleReview_shouldReturnStats() {
@@ -228,6 +261,76 @@ class StatsServiceImplIT {
         assertThat(reviewsStats.negativeReviewsPercentage(), is(Float.valueOf(100)));
     }
 
+    @Test
+    @DisplayName("Get event stats, review mark was updated")
+    void getEventReviewsStats_whenReviewMarkUpdated_shouldReturnUpdatedStats() {
+        setupWireMockForRegistrationClientPositiveAnswer();
+        setupWireMockForEventClientPositiveAnswer();
+
+        Long userId = 13L;
+        Review review1 = createReview(5);
+        reviewService.createReview(review1, userId);
+        Review review2 = createReview(8);
+        reviewService.createReview(review2, userId);
+        reviewService.updateReview(review1.getId(), ReviewUpdateRequest.builder().mark(9).build(), userId);
+
+        EventReviewStats reviewsStats = statsService.getEventReviewsStats(review1.getEventId());
+
+        assertThat(reviewsStats, notNullValue());
+        assertThat(reviewsStats.totalNumberOfReviews(), is(Long.valueOf(2)));
+        assertThat(reviewsStats.avgMark(), is(8.5F));
+        assertThat(reviewsStats.positiveReviewsPercentage(), is(Float.valueOf(100)));
+        assertThat(reviewsStats.negativeReviewsPercentage(), is(Float.valueOf(0)));
+    }
+
+    @Test
+    @DisplayName("Get event stats, review was deleted")
+    void getEventReviewsStats_whenReviewDeleted_shouldReturnUpdatedStats() {
+        setupWireMockForRegistrationClientPositiveAnswer();
+        setupWireMockForEventClientPositiveAnswer();
+
+        Long userId = 13L;
+        Review review1 = createReview(5);
+        reviewService.createReview(review1, userId);
+        Review review2 = createReview(8);
+        reviewService.createReview(review2, userId);
+        reviewService.deleteReviewById(review1.getId(), userId);
+
+        EventReviewStats reviewsStats = statsService.getEventReviewsStats(review1.getEventId());
+
+        assertThat(reviewsStats, notNullValue());
+        assertThat(reviewsStats.totalNumberOfReviews(), is(Long.valueOf(1)));
+        assertThat(reviewsStats.avgMark(), is(8F));
+        assertThat(reviewsStats.positiveReviewsPercentage(), is(Float.valueOf(100)));
+        assertThat(reviewsStats.negativeReviewsPercentage(), is(Float.valueOf(0)));
+    }
+
+    @Test
+    @DisplayName("Rebuild event stats, stored stats were out of sync")
+    void rebuildEventStats_whenStatsInconsistent_shouldRestoreStats() {
+        setupWireMockForRegistrationClientPositiveAnswer();
+        setupWireMockForEventClientPositiveAnswer();
+
+        Long userId = 13L;
+        Review review1 = createReview(5);
+        reviewService.createReview(review1, userId);
+        Review review2 = createReview(8);
+        reviewService.createReview(review2, userId);
+        jdbcTemplate.update("update event_review_stats set total_reviews = 10 where event_id = ?", review1.getEventId());
+
+        assertThat(statsService.findInconsistentEventStats(), is(List.of(review1.getEventId())));
+
+        statsService.rebuildEventStats();
+
+        EventReviewStats reviewsStats = statsService.getEventReviewsStats(review1.getEventId());
+
+        assertThat(statsService.findInconsistentEventStats(), empty());
+        assertThat(reviewsStats.totalNumberOfReviews(), is(Long.valueOf(2)));
+        assertThat(reviewsStats.avgMark(), is(6.5F));
+        assertThat(reviewsStats.positiveReviewsPercentage(), is(Float.valueOf(50)));
+        assertThat(reviewsStats.negativeReviewsPercentage(), is(Float.valueOf(50)));
+    }
+
     @Test
     @DisplayName("Get user stats, no reviews")
     void getUserReviewsStats_whenNoReviewsForEvent_shouldReturnNull() {
@@ -0,0 +1,164 @@
+package ru.mssecondteam.reviewservice.service.top;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mapstruct.factory.Mappers;
+import org.mockito.Mockito;
+import ru.mssecondteam.reviewservice.dto.ReviewDto;
+import ru.mssecondteam.reviewservice.dto.TopReviewsDto;
+import ru.mssecondteam.reviewservice.mapper.ReviewMapper;
+import ru.mssecondteam.reviewservice.model.Review;
+import ru.mssecondteam.reviewservice.repository.ReviewRepository;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class TopReviewsIndexTest {
+
+    private static final Long EVENT_ID = 5L;
+
+    private static final int LIMIT = 2;
+
+    private ReviewRepository reviewRepository;
+
+    private TopReviewsIndex topReviewsIndex;
+
+    @BeforeEach
+    void setUp() {
+        reviewRepository = Mockito.mock(ReviewRepository.class);
+        topReviewsIndex = new TopReviewsIndex(reviewRepository, Mappers.getMapper(ReviewMapper.class), LIMIT, 1,
+                Duration.ofMinutes(1));
+    }
+
+    @Test
+    @DisplayName("Top reviews are loaded once and then served from index")
+    void getTopReviews_whenCalledTwice_shouldLoadOnce() {
+        mockTopReviews(EVENT_ID, List.of(reviewDto(1, 3, 0), reviewDto(2, 1, 0)),
+                List.of(reviewDto(3, 0, 2), reviewDto(2, 1, 0)));
+
+        topReviewsIndex.getTopReviews(EVENT_ID);
+        TopReviewsDto topReviews = topReviewsIndex.getTopReviews(EVENT_ID);
+
+        assertThat(ids(topReviews.bestReviews()), contains(1L, 2L));
+        assertThat(ids(topReviews.worstReviews()), contains(3L, 2L));
+        verify(reviewRepository, times(1)).getTopReviewsForEvent(EVENT_ID, LIMIT);
+    }
+
+    @Test
+    @DisplayName("Top reviews indexed under another version are loaded again")
+    void getTopReviews_whenIndexedVersionDiffers_shouldReload() {
+        mockTopReviews(EVENT_ID, List.of(reviewDto(1, 3, 0)), List.of(reviewDto(3, 0, 2)));
+
+        topReviewsIndex.getTopReviews(EVENT_ID, "v1");
+        topReviewsIndex.getTopReviews(EVENT_ID, "v1");
+        topReviewsIndex.getTopReviews(EVENT_ID, "v2");
+
+        verify(reviewRepository, times(2)).getTopReviewsForEvent(EVENT_ID, LIMIT);
+    }
+
+    @Test
+    @DisplayName("Vote moves review into top reviews without reloading")
+    void onVote_whenReviewOutranksLastTopReview_shouldReplaceItInIndex() {
+        mockTopReviews(EVENT_ID, List.of(reviewDto(1, 3, 0), reviewDto(2, 1, 0)),
+                List.of(reviewDto(3, 0, 2), reviewDto(5, 0, 1)));
+        topReviewsIndex.getTopReviews(EVENT_ID);
+
+        topReviewsIndex.onVote(reviewDto(4, 5, 1));
+        TopReviewsDto topReviews = topReviewsIndex.getTopReviews(EVENT_ID);
+
+        assertThat(ids(topReviews.bestReviews()), contains(4L, 1L));
+        assertThat(topReviews.bestReviews().get(0).numberOfLikes(), is(5L));
+        assertThat(ids(topReviews.worstReviews()), contains(3L, 5L));
+        verify(reviewRepository, times(1)).getTopReviewsForEvent(EVENT_ID, LIMIT);
+    }
+
+    @Test
+    @DisplayName("Vote dropping the last top review reloads top reviews")
+    void onVote_whenLastTopReviewLosesScore_shouldReloadTopReviews() {
+        mockTopReviews(EVENT_ID, List.of(reviewDto(1, 3, 0), reviewDto(2, 1, 0)),
+                List.of(reviewDto(3, 0, 2), reviewDto(4, 0, 1)));
+        topReviewsIndex.getTopReviews(EVENT_ID);
+
+        topReviewsIndex.onVote(reviewDto(2, 0, 0));
+        topReviewsIndex.getTopReviews(EVENT_ID);
+
+        verify(reviewRepository, times(2)).getTopReviewsForEvent(EVENT_ID, LIMIT);
+    }
+
+    @Test
+    @DisplayName("New review is added to incomplete top reviews")
+    void onReviewCreated_whenTopReviewsNotFull_shouldAddReview() {
+        mockTopReviews(EVENT_ID, List.of(reviewDto(1, 3, 0)), List.of(reviewDto(1, 3, 0)));
+        topReviewsIndex.getTopReviews(EVENT_ID);
+
+        topReviewsIndex.onReviewCreated(review(2));
+        TopReviewsDto topReviews = topReviewsIndex.getTopReviews(EVENT_ID);
+
+        assertThat(ids(topReviews.bestReviews()), contains(1L, 2L));
+        assertThat(ids(topReviews.worstReviews()), contains(2L, 1L));
+        verify(reviewRepository, times(1)).getTopReviewsForEvent(EVENT_ID, LIMIT);
+    }
+
+    @Test
+    @DisplayName("Least recently used event is evicted when index is full")
+    void getTopReviews_whenIndexIsFull_shouldEvictLeastRecentlyUsedEvent() {
+        when(reviewRepository.getTopReviewsForEvent(anyLong(), Mockito.eq(LIMIT)))
+                .thenReturn(new TopReviewsDto(List.of(), List.of()));
+
+        topReviewsIndex.getTopReviews(EVENT_ID);
+        topReviewsIndex.getTopReviews(EVENT_ID + 1);
+        topReviewsIndex.getTopReviews(EVENT_ID);
+
+        verify(reviewRepository, times(2)).getTopReviewsForEvent(EVENT_ID, LIMIT);
+        verify(reviewRepository, times(1)).getTopReviewsForEvent(EVENT_ID + 1, LIMIT);
+    }
+
+    private void mockTopReviews(Long eventId, List<ReviewDto> bestReviews, List<ReviewDto> worstReviews) {
+        when(reviewRepository.getTopReviewsForEvent(eventId, LIMIT))
+                .thenReturn(new TopReviewsDto(bestReviews, worstReviews));
+    }
+
+    private List<Long> ids(List<ReviewDto> reviews) {
+        return reviews.stream()
+                .map(ReviewDto::id)
+                .toList();
+    }
+
+    private Review review(long id) {
+        return Review.builder()
+                .id(id)
+                .title("title" + id)
+                .content("content" + id)
+                .username("username" + id)
+                .mark(5)
+                .eventId(EVENT_ID)
+                .createdDateTime(LocalDateTime.of(2024, 10, 10, 12, 0))
+                .updatedDateTime(LocalDateTime.of(2024, 10, 10, 12, 0))
+                .build();
+    }
+
+    private ReviewDto reviewDto(long id, long likes, long dislikes) {
+        return ReviewDto.builder()
+                .id(id)
+                .title("title" + id)
+                .content("content" + id)
+                .username("username" + id)
+                .mark(5)
+                .eventId(EVENT_ID)
+                .createdDateTime(LocalDateTime.of(2024, 10, 10, 12, 0))
+                .updatedDateTime(LocalDateTime.of(2024, 10, 10, 12, 0))
+                .numberOfLikes(likes)
+                .numberOfDislikes(dislikes)
+                .build();
+    }
+}